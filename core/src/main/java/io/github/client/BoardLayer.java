@@ -0,0 +1,79 @@
+package io.github.client;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.utils.Disposable;
+import io.github.logic.tetris_battle.board.BitBoard;
+
+/**
+ * The locked cells of one board, uploaded once to a {@link SpriteCache} and redrawn from there
+ * every frame. The cache is only rebuilt when the board's version changes (a piece was placed,
+ * rows were cleared or the grid was replaced) or the board moved on screen.
+ */
+public class BoardLayer implements Disposable {
+    private SpriteCache cache;
+    private int cacheId = -1;
+    private BitBoard cells;
+    private int version;
+    private int posX;
+    private int posY;
+
+    /** Draws the cells at the given position. The batch is ended and restarted around the cache if it is drawing. */
+    public void draw(BitBoard cells, SpriteBatch batch, int posX, int posY) {
+        if (cacheId < 0 || cells != this.cells || cells.getVersion() != version || posX != this.posX || posY != this.posY) {
+            rebuild(cells, posX, posY);
+        }
+
+        boolean drawing = batch.isDrawing();
+        if (drawing) {
+            batch.end();
+        }
+        cache.setProjectionMatrix(batch.getProjectionMatrix());
+        cache.setTransformMatrix(batch.getTransformMatrix());
+        Gdx.gl.glEnable(GL20.GL_BLEND); // blend like the batch would
+        Gdx.gl.glBlendFunc(batch.getBlendSrcFunc(), batch.getBlendDstFunc());
+        cache.begin();
+        cache.draw(cacheId);
+        cache.end();
+        Gdx.gl.glDisable(GL20.GL_BLEND);
+        if (drawing) {
+            batch.begin();
+        }
+    }
+
+    private void rebuild(BitBoard cells, int posX, int posY) {
+        int size = cells.getRows() * cells.getCols();
+        if (cache == null || cells != this.cells) {
+            if (cache != null) {
+                cache.dispose();
+            }
+            cache = new SpriteCache(size, false);
+        }
+        cache.clear();
+        cache.beginCache();
+        for (int i = 0; i < cells.getRows(); i++) {
+            for (int j = 0; j < cells.getCols(); j++) {
+                Sprite blockSprite = BoardRenderer.getColorByType(cells.get(i, j)); // ghost when empty
+                blockSprite.setPosition(j * BoardRenderer.BLOCK_SIZE + posX, i * BoardRenderer.BLOCK_SIZE + posY);
+                cache.add(blockSprite);
+            }
+        }
+        cacheId = cache.endCache();
+        this.cells = cells;
+        this.version = cells.getVersion();
+        this.posX = posX;
+        this.posY = posY;
+    }
+
+    @Override
+    public void dispose() {
+        if (cache != null) {
+            cache.dispose();
+            cache = null;
+        }
+        cacheId = -1;
+    }
+}
@@ -0,0 +1,107 @@
+package io.github.client;
+
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import io.github.logic.tetris_battle.board.BitBoard;
+import io.github.logic.tetris_battle.board.Board;
+import io.github.logic.tetris_battle.board.Tetromino;
+import io.github.logic.utils.Assets;
+
+/** Draws boards and pieces from the rules module with the block sprites. */
+public final class BoardRenderer {
+    public static final int BLOCK_SIZE = 30;
+
+    private static TextureAtlas blockAtlas;
+    private static Sprite ghostBlockSprite;
+    private static Sprite blueBlockSprite;
+    private static Sprite cyanBlockSprite;
+    private static Sprite greenBlockSprite;
+    private static Sprite orangeBlockSprite;
+    private static Sprite purpleBlockSprite;
+    private static Sprite redBlockSprite;
+    private static Sprite yellowBlockSprite;
+
+    private BoardRenderer() {
+    }
+
+    /** Takes the block atlas from {@link Assets} once; every block sprite is a region of its single texture. */
+    public static void loadAssets() {
+        if (blockAtlas != null) {
+            return;
+        }
+        blockAtlas = Assets.getInstance().acquire(Assets.BLOCK_ATLAS, TextureAtlas.class);
+
+        ghostBlockSprite = createBlockSprite("Ghost");
+        blueBlockSprite = createBlockSprite("Blue");
+        cyanBlockSprite = createBlockSprite("Cyan");
+        greenBlockSprite = createBlockSprite("Green");
+        orangeBlockSprite = createBlockSprite("Orange");
+        purpleBlockSprite = createBlockSprite("Purple");
+        redBlockSprite = createBlockSprite("Red");
+        yellowBlockSprite = createBlockSprite("Yellow");
+    }
+
+    public static void disposeAssets() {
+        if (blockAtlas != null) {
+            Assets.getInstance().release(Assets.BLOCK_ATLAS);
+            blockAtlas = null;
+        }
+    }
+
+    private static Sprite createBlockSprite(String name) {
+        Sprite sprite = blockAtlas.createSprite(name);
+        sprite.setSize(BLOCK_SIZE, BLOCK_SIZE);
+        return sprite;
+    }
+
+    public static Sprite getColorByType(int type) {
+        switch (type) {
+            case 0: return cyanBlockSprite;   // I
+            case 1: return yellowBlockSprite; // O
+            case 2: return greenBlockSprite;  // S
+            case 3: return redBlockSprite;    // Z
+            case 4: return purpleBlockSprite; // T
+            case 5: return blueBlockSprite;   // J
+            case 6: return orangeBlockSprite; // L
+            default: return ghostBlockSprite;
+        }
+    }
+
+    /** Draws every cell from the board's cached layer, empty ones with the ghost block, then the falling piece. */
+    public static void drawBoard(Board board, BoardLayer layer, SpriteBatch batch, int posX, int posY) {
+        drawBoard(board, layer, batch, posX, posY, 0f);
+    }
+
+    /** Like {@link #drawBoard(Board, BoardLayer, SpriteBatch, int, int)}, shifting the falling piece down by a pixel offset. */
+    public static void drawBoard(Board board, BoardLayer layer, SpriteBatch batch, int posX, int posY, float pieceOffsetY) {
+        BitBoard cells = board.getCells();
+        layer.draw(cells, batch, posX, posY);
+
+        Tetromino piece = board.getCurrentRunningPiece();
+        if (piece != null) {
+            drawPiece(piece, batch, posX, posY + pieceOffsetY, cells.getRows());
+        }
+    }
+
+    /** Draws the piece's blocks that fall inside a board of {@code rows} rows. */
+    public static void drawPiece(Tetromino piece, SpriteBatch batch, float posX, float posY, int rows) {
+        int[][] shape = piece.getShape();
+        Sprite blockSprite = getColorByType(piece.getType());
+        for (int i = 0; i < shape.length; i++) {
+            int drawRow = piece.getRow() + i;
+
+            // Skip if the block is above the board or below it
+            if (drawRow < 0 || drawRow >= rows) {
+                continue;
+            }
+            for (int j = 0; j < shape[i].length; j++) {
+                if (shape[i][j] == 1) {
+                    int drawCol = piece.getCol() + j;
+                    blockSprite.setPosition(drawCol * BLOCK_SIZE + posX, drawRow * BLOCK_SIZE + posY);
+                    blockSprite.draw(batch);
+                }
+            }
+        }
+    }
+}
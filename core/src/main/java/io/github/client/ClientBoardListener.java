@@ -0,0 +1,41 @@
+package io.github.client;
+
+import io.github.client.ui.Main;
+import io.github.logic.tetris_battle.board.BoardListener;
+import io.github.logic.utils.AudioManager;
+import io.github.logic.utils.Messages;
+
+/** Plays the board sounds and asks the server for pieces when the board has no local spawner. */
+public class ClientBoardListener implements BoardListener {
+    private static ClientBoardListener instance;
+
+    protected ClientBoardListener() {
+    }
+
+    public static ClientBoardListener getInstance() {
+        if (instance == null) {
+            instance = new ClientBoardListener();
+        }
+        return instance;
+    }
+
+    @Override
+    public void onPieceMoved() {
+        AudioManager.getInstance().playPieceMove();
+    }
+
+    @Override
+    public void onPiecePlaced() {
+        AudioManager.getInstance().playPieceDrop();
+    }
+
+    @Override
+    public void onRowsCleared(int rows, int clearedMask) {
+        AudioManager.getInstance().playLineClear();
+    }
+
+    @Override
+    public void onPieceRequested(int index) {
+        Main.client.send(Messages.REQUEST_PIECE + Messages.SEPARATOR + index);
+    }
+}
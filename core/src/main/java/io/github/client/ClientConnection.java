@@ -1,57 +1,227 @@
 package io.github.client;
 
+import com.google.gson.Gson;
+import io.github.logic.data.GameStateDTO;
+import io.github.logic.net.ByteReader;
+import io.github.logic.net.ByteWriter;
+import io.github.logic.net.GameStateCodec;
+import io.github.logic.net.MessageHandler;
+import io.github.logic.net.Protocol;
+import io.github.logic.net.ProtocolReader;
+import io.github.logic.utils.Messages;
+
 import java.io.*;
 import java.net.*;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Connection to the game server. The reader thread decodes every line and frame and queues the
+ * result; the render thread calls {@link #dispatch(int)} once per frame to hand them to the
+ * listener, so screens never see messages concurrently with render(). Sends are encoded on the
+ * calling thread and written by a {@link ClientWriter}, so they never block the caller.
+ */
+public class ClientConnection implements Runnable, MessageHandler {
+    public static final int MAX_DISPATCH_PER_FRAME = 64;
+    private static final int INBOX_CAPACITY = 1024;
+    private static final String PONG = "pong";
 
-public class ClientConnection implements Runnable {
     private Socket socket;
-    private BufferedReader in;
-    private PrintWriter out;
+    private ProtocolReader in;
+    private ClientWriter writer;
     private MessageListener listener;
 
+    // Switched on by the server's hello_ok, until then game states go out as JSON lines
+    private volatile boolean binaryProtocol = false;
+    // The server announces it runs the boards right before game_start, which then applies it to
+    // that game; any other game_start, leaving the room or closing the connection clears it
+    private volatile boolean serverAuthoritative = false;
+    private boolean authoritativeAnnounced = false; // reader thread only
+    private final Gson gson = new Gson();
+    private final ByteWriter payloadWriter = new ByteWriter(256);
+    private final ByteWriter frameWriter = new ByteWriter(256);
+    private final ByteReader frameReader = new ByteReader();
+
+    // Reader thread -> render thread, and the emptied messages back again
+    private final SpscQueue<NetworkMessage> inbox = new SpscQueue<>(INBOX_CAPACITY);
+    private final SpscQueue<NetworkMessage> pool = new SpscQueue<>(INBOX_CAPACITY);
+    private volatile boolean closed = false;
+    private volatile long lastPongTime = System.currentTimeMillis();
+
+    /** Called on the thread that calls {@link #dispatch(int)}. */
     public interface MessageListener {
         void onMessage(String msg);
+
+        default void onGameState(GameStateDTO state) {
+        }
     }
 
     public ClientConnection(String host, int port, MessageListener listener) throws IOException {
         this.socket = new Socket(host, port);
-        this.in = new BufferedReader(new InputStreamReader(socket.getInputStream()));
-        this.out = new PrintWriter(socket.getOutputStream(), true);
+        this.in = new ProtocolReader(socket.getInputStream());
+        this.socket.setTcpNoDelay(true); // small input lines must not wait for Nagle
+        this.writer = new ClientWriter(socket.getOutputStream());
         this.listener = listener;
     }
 
     public void start() {
+        writer.start();
         new Thread(this).start(); // start listening for server messages
+        send(Messages.HELLO + Messages.SEPARATOR + Protocol.VERSION);
     }
 
+    /** Queues a line for the writer thread and returns immediately. */
     public void send(String msg) {
-        out.println(msg);
-        out.flush();
-        if (out.checkError()) {
-            System.err.println("Send failed: socket might be closed.");
-        } else {
-            System.out.println("Client sent: " + msg);
+        if (msg.equals(Messages.LEAVE)) {
+            serverAuthoritative = false;
         }
+        enqueue((msg + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isServerAuthoritative() {
+        return serverAuthoritative;
     }
 
+    /** Time of the last pong, tracked on the reader thread so a busy render loop cannot miss it. */
+    public long getLastPongTime() {
+        return lastPongTime;
+    }
+
+    /**
+     * Hands up to {@code max} queued messages to the listener, oldest first. Anything beyond
+     * that waits for the next call, which keeps a burst from stalling one frame.
+     */
+    public int dispatch(int max) {
+        int count = 0;
+        NetworkMessage message;
+        while (count < max && (message = inbox.poll()) != null) {
+            count++;
+            try {
+                if (message.kind == NetworkMessage.GAME_STATE) {
+                    listener.onGameState(message.state);
+                } else {
+                    listener.onMessage(message.line);
+                }
+            } finally {
+                message.clear();
+                pool.offer(message); // dropped if the pool is full
+            }
+        }
+        return count;
+    }
+
+    public void sendGameState(GameStateDTO state) {
+        if (!binaryProtocol) {
+            send(Messages.GAME_STATE + Messages.SEPARATOR + gson.toJson(state));
+            return;
+        }
+
+        // Encoded here, not on the writer thread: the grid rows are the board's live view
+        byte[] frame;
+        synchronized (frameWriter) {
+            payloadWriter.reset();
+            GameStateCodec.encode(state, payloadWriter);
+            frameWriter.reset();
+            frameWriter.writeByte(Protocol.FRAME_GAME_STATE);
+            frameWriter.writeVarInt(payloadWriter.size());
+            frameWriter.writeBytes(payloadWriter.array(), 0, payloadWriter.size());
+            frame = frameWriter.toByteArray();
+        }
+        enqueue(frame);
+    }
+
+    private void enqueue(byte[] data) {
+        if (!writer.offer(data)) {
+            System.err.println("Send failed: socket might be closed.");
+        }
+    }
 
     @Override
     public void run() {
         try {
-            String line;
-            while ((line = in.readLine()) != null) {
-                if (listener != null) {
-                    listener.onMessage(line);
-                } else {
-                    System.out.println("Server: " + line);
-                }
+            while (in.readNext(this)) {
+                // each line or frame has been dispatched by readNext
             }
         } catch (IOException e) {
             System.err.println("Connection closed: " + e.getMessage());
         }
     }
 
+    // A message that cannot be parsed is logged and dropped, the connection stays up
+    @Override
+    public void onLine(String line) {
+        try {
+            handleLine(line);
+        } catch (RuntimeException e) {
+            System.err.println("Dropping malformed message: " + e);
+        }
+    }
+
+    private void handleLine(String line) {
+        if (line.startsWith(Messages.HELLO_OK + Messages.SEPARATOR)) {
+            String version = line.substring(Messages.HELLO_OK.length() + Messages.SEPARATOR.length());
+            binaryProtocol = version.equals(String.valueOf(Protocol.VERSION));
+            return;
+        }
+        if (line.equals(Messages.AUTHORITATIVE)) {
+            authoritativeAnnounced = true;
+            return;
+        }
+        if (line.startsWith(Messages.GAME_START + Messages.SEPARATOR)) {
+            // Before the line is queued, so the game screen it opens already sees the flag
+            serverAuthoritative = authoritativeAnnounced;
+            authoritativeAnnounced = false;
+        }
+        if (line.equals(PONG)) {
+            lastPongTime = System.currentTimeMillis();
+            return;
+        }
+        if (listener == null) {
+            System.out.println("Server: " + line);
+            return;
+        }
+        if (line.startsWith(Messages.GAME_STATE + Messages.SEPARATOR)) {
+            // Parsed here rather than on the render thread
+            String json = line.substring(Messages.GAME_STATE.length() + Messages.SEPARATOR.length());
+            publish(obtain().set(NetworkMessage.GAME_STATE, null, gson.fromJson(json, GameStateDTO.class)));
+        } else {
+            publish(obtain().set(NetworkMessage.LINE, line, null));
+        }
+    }
+
+    @Override
+    public void onFrame(int type, byte[] payload, int offset, int length) {
+        if (type == Protocol.FRAME_GAME_STATE && listener != null) {
+            GameStateDTO state;
+            try {
+                state = GameStateCodec.decode(frameReader.wrap(payload, offset, length));
+            } catch (RuntimeException e) {
+                System.err.println("Dropping malformed game state frame: " + e);
+                return;
+            }
+            publish(obtain().set(NetworkMessage.GAME_STATE, null, state));
+        }
+    }
+
+    private NetworkMessage obtain() {
+        NetworkMessage message = pool.poll();
+        return message != null ? message : new NetworkMessage();
+    }
+
+    // A full inbox means the render thread is behind; stop reading so TCP pushes back on the server
+    private void publish(NetworkMessage message) {
+        while (!inbox.offer(message)) {
+            if (closed) {
+                return;
+            }
+            LockSupport.parkNanos(1_000_000L);
+        }
+    }
+
     public void close() {
+        closed = true;
+        serverAuthoritative = false;
+        writer.close();
         try {
             socket.close();
         } catch (IOException e) {
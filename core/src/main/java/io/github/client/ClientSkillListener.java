@@ -0,0 +1,25 @@
+package io.github.client;
+
+import io.github.logic.tetris_battle.skill.Skill;
+import io.github.logic.tetris_battle.skill.SkillListener;
+import io.github.logic.utils.AudioManager;
+
+/** Plays the activation sound for skills used on this client. */
+public class ClientSkillListener implements SkillListener {
+    private static ClientSkillListener instance;
+
+    protected ClientSkillListener() {
+    }
+
+    public static ClientSkillListener getInstance() {
+        if (instance == null) {
+            instance = new ClientSkillListener();
+        }
+        return instance;
+    }
+
+    @Override
+    public void onSkillActivated(Skill skill) {
+        AudioManager.getInstance().playSkillActivate();
+    }
+}
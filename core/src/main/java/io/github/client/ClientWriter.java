@@ -0,0 +1,77 @@
+package io.github.client;
+
+import io.github.logic.net.ByteWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Writes encoded messages to the server on its own thread. Callers only enqueue, so a send
+ * from the render thread never waits on the socket; everything queued while a write was in
+ * progress goes out together in the next write.
+ */
+class ClientWriter implements Runnable {
+    private static final int MAX_QUEUED = 1024;
+
+    private final OutputStream out;
+    private final BlockingQueue<byte[]> queue = new ArrayBlockingQueue<>(MAX_QUEUED);
+    private volatile boolean closed = false;
+    private volatile Thread thread;
+
+    // Owned by the writer thread
+    private final List<byte[]> batch = new ArrayList<>();
+    private final ByteWriter buffer = new ByteWriter(4096);
+
+    ClientWriter(OutputStream out) {
+        this.out = out;
+    }
+
+    void start() {
+        Thread writer = new Thread(this, "client-writer");
+        writer.setDaemon(true);
+        thread = writer;
+        writer.start();
+    }
+
+    /** Queues a complete line or frame. Returns false if the writer is closed or hopelessly behind. */
+    boolean offer(byte[] data) {
+        return !closed && queue.offer(data);
+    }
+
+    void close() {
+        closed = true;
+        Thread writer = thread;
+        if (writer != null) {
+            writer.interrupt();
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (!closed) {
+                byte[] first = queue.take();
+                buffer.reset();
+                buffer.writeBytes(first, 0, first.length);
+                queue.drainTo(batch);
+                for (byte[] data : batch) {
+                    buffer.writeBytes(data, 0, data.length);
+                }
+                batch.clear();
+                buffer.writeTo(out);
+                out.flush();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            System.err.println("Send failed: socket might be closed.");
+        } finally {
+            closed = true;
+            queue.clear();
+        }
+    }
+}
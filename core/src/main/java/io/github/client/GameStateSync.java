@@ -0,0 +1,224 @@
+package io.github.client;
+
+import io.github.logic.data.GameStateDTO;
+import io.github.logic.data.PlayerState;
+import io.github.logic.data.TetrominoDTO;
+
+import java.util.Arrays;
+
+/**
+ * Delta sync of board states between the two players.
+ *
+ * Outgoing states are deltas against the newest state the opponent confirmed through
+ * {@link GameStateDTO#lastReceivedAck}: only changed rows and pieces are included, and nothing
+ * is sent while nothing changed. A change the opponent has not confirmed is sent again every
+ * {@link #RESEND_INTERVAL} ticks, since the server may drop states for a slow reader. A keyframe
+ * goes out every {@link #KEYFRAME_INTERVAL} ticks or when the opponent asks for one. Incoming
+ * deltas are applied to the received state they are based on, so the result never depends on
+ * which deltas arrived in between.
+ */
+public class GameStateSync {
+    public static final int KEYFRAME_INTERVAL = 50; // ticks, 5s at the 100ms send rate
+    public static final int HEARTBEAT_INTERVAL = 10; // ticks without changes before acks are resent
+    public static final int RESEND_INTERVAL = 3; // ticks an unconfirmed change waits before it is sent again
+    private static final int HISTORY = 64;
+
+    private static class Snapshot {
+        int ack;
+        int[][] grid;
+        TetrominoDTO currentPiece;
+        TetrominoDTO nextPiece;
+        float health;
+    }
+
+    // Outgoing
+    private int nextAck = 1;
+    private int peerAck = 0;
+    private boolean keyframeRequested = true;
+    private int ticksSinceKeyframe = 0;
+    private int ticksSinceSend = 0;
+    private int lastSentReceivedAck = 0;
+    private final Snapshot[] sent = new Snapshot[HISTORY];
+    private Snapshot lastSent;
+
+    // Incoming
+    private int lastReceivedAck = 0;
+    private boolean needKeyframe = true;
+    private final Snapshot[] received = new Snapshot[HISTORY];
+
+    /**
+     * Builds the next state to send, or returns null when there is nothing worth sending.
+     * {@code health} is always sent; pass {@code healthChanged} when it must go out now.
+     */
+    public GameStateDTO nextState(String roomId, int[][] grid, TetrominoDTO currentPiece, TetrominoDTO nextPiece,
+                                  int pieceIndex, float health, boolean healthChanged) {
+        ticksSinceKeyframe++;
+        ticksSinceSend++;
+
+        boolean keyframe = keyframeRequested || ticksSinceKeyframe >= KEYFRAME_INTERVAL;
+        boolean changed = lastSent == null
+            || !sameGrid(grid, lastSent.grid)
+            || !samePiece(currentPiece, lastSent.currentPiece)
+            || !samePiece(nextPiece, lastSent.nextPiece);
+        boolean ackPending = lastReceivedAck != lastSentReceivedAck && ticksSinceSend >= HEARTBEAT_INTERVAL;
+        Snapshot base = find(sent, peerAck);
+        boolean unconfirmed = lastSent != null && peerAck < lastSent.ack && ticksSinceSend >= RESEND_INTERVAL
+            && (base == null || !sameState(base, lastSent));
+        if (!keyframe && !changed && !healthChanged && !ackPending && !needKeyframe && !unconfirmed) {
+            return null;
+        }
+
+        if (keyframe) {
+            base = null;
+        }
+        if (base == null) {
+            keyframe = true;
+        }
+
+        GameStateDTO state = new GameStateDTO();
+        state.roomId = roomId;
+        state.ack = nextAck++;
+        state.lastReceivedAck = lastReceivedAck;
+        state.baseAck = keyframe ? 0 : base.ack;
+        state.keyframeRequest = needKeyframe;
+
+        PlayerState player = new PlayerState();
+        state.player = player;
+        player.pieceIndex = pieceIndex;
+        player.health = health;
+
+        int rows = grid.length;
+        player.grid = new int[rows][];
+        for (int i = 0; i < rows; i++) {
+            if (keyframe || !sameRow(grid[i], base.grid[i])) {
+                player.grid[i] = grid[i];
+                player.changedRows |= 1 << i;
+            }
+        }
+        if (player.changedRows == 0) {
+            player.grid = null;
+        }
+        if (keyframe || !samePiece(currentPiece, base.currentPiece)) {
+            player.currentPiece = currentPiece;
+            player.changedPieces |= PlayerState.CURRENT_PIECE;
+        }
+        if (keyframe || !samePiece(nextPiece, base.nextPiece)) {
+            player.nextPiece = nextPiece;
+            player.changedPieces |= PlayerState.NEXT_PIECE;
+        }
+
+        Snapshot snapshot = new Snapshot();
+        snapshot.ack = state.ack;
+        snapshot.grid = copyGrid(grid);
+        snapshot.currentPiece = currentPiece;
+        snapshot.nextPiece = nextPiece;
+        snapshot.health = health;
+        sent[state.ack % HISTORY] = snapshot;
+        lastSent = snapshot;
+
+        if (keyframe) {
+            keyframeRequested = false;
+            ticksSinceKeyframe = 0;
+        }
+        ticksSinceSend = 0;
+        lastSentReceivedAck = lastReceivedAck;
+        return state;
+    }
+
+    /**
+     * Applies a state from the opponent. Returns it with the full grid and both pieces filled
+     * in, or null when it is stale or its base is unknown (a keyframe is then requested).
+     */
+    public GameStateDTO receive(GameStateDTO state) {
+        if (state.ack <= lastReceivedAck) {
+            return null;
+        }
+        if (state.lastReceivedAck > peerAck) {
+            peerAck = state.lastReceivedAck;
+        }
+        if (state.keyframeRequest) {
+            keyframeRequested = true;
+        }
+
+        PlayerState player = state.player;
+        Snapshot base = null;
+        if (state.baseAck != 0) {
+            base = find(received, state.baseAck);
+            if (base == null) {
+                needKeyframe = true;
+                return null;
+            }
+        }
+
+        int[][] grid;
+        if (base == null) {
+            grid = player.grid;
+        } else {
+            grid = new int[base.grid.length][];
+            for (int i = 0; i < grid.length; i++) {
+                boolean changed = player.grid != null && (player.changedRows & (1 << i)) != 0;
+                grid[i] = changed ? player.grid[i] : base.grid[i];
+            }
+        }
+        if (grid == null) {
+            needKeyframe = true;
+            return null;
+        }
+        if (base != null && (player.changedPieces & PlayerState.CURRENT_PIECE) == 0) {
+            player.currentPiece = base.currentPiece;
+        }
+        if (base != null && (player.changedPieces & PlayerState.NEXT_PIECE) == 0) {
+            player.nextPiece = base.nextPiece;
+        }
+
+        Snapshot snapshot = new Snapshot();
+        snapshot.ack = state.ack;
+        snapshot.grid = grid;
+        snapshot.currentPiece = player.currentPiece;
+        snapshot.nextPiece = player.nextPiece;
+        received[state.ack % HISTORY] = snapshot;
+
+        lastReceivedAck = state.ack;
+        needKeyframe = false;
+        player.grid = copyGrid(grid);
+        return state;
+    }
+
+    private static Snapshot find(Snapshot[] history, int ack) {
+        if (ack <= 0) {
+            return null;
+        }
+        Snapshot snapshot = history[ack % HISTORY];
+        return snapshot != null && snapshot.ack == ack ? snapshot : null;
+    }
+
+    private static boolean sameState(Snapshot a, Snapshot b) {
+        return a.health == b.health && sameGrid(a.grid, b.grid)
+            && samePiece(a.currentPiece, b.currentPiece) && samePiece(a.nextPiece, b.nextPiece);
+    }
+
+    private static boolean sameGrid(int[][] a, int[][] b) {
+        if (a.length != b.length) return false;
+        for (int i = 0; i < a.length; i++) {
+            if (!sameRow(a[i], b[i])) return false;
+        }
+        return true;
+    }
+
+    private static boolean sameRow(int[] a, int[] b) {
+        return Arrays.equals(a, b);
+    }
+
+    private static boolean samePiece(TetrominoDTO a, TetrominoDTO b) {
+        if (a == null || b == null) return a == b;
+        return a.type == b.type && a.rotationState == b.rotationState && a.row == b.row && a.col == b.col;
+    }
+
+    private static int[][] copyGrid(int[][] grid) {
+        int[][] copy = new int[grid.length][];
+        for (int i = 0; i < grid.length; i++) {
+            copy[i] = grid[i].clone();
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,40 @@
+package io.github.client;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import io.github.logic.tetris_battle.score.HealthBar;
+
+/** Draws the shared health bar: green for the left player's share, red for the right. */
+public final class HealthBarRenderer {
+    private static final float BORDER_THICKNESS = 4f;
+    private static final int HEIGHT = 30;
+
+    private HealthBarRenderer() {
+    }
+
+    public static void draw(HealthBar healthBar, ShapeRenderer shapeRenderer, int posX, int posY) {
+        int width = healthBar.getWidth();
+        float pivot = healthBar.getPivot();
+
+        // Draw the black border (background)
+        shapeRenderer.setColor(Color.BLACK);
+        shapeRenderer.rect(
+            posX - BORDER_THICKNESS,
+            posY - BORDER_THICKNESS,
+            width + BORDER_THICKNESS * 2,
+            HEIGHT + BORDER_THICKNESS * 2
+        );
+
+        // Background bar (grey)
+        shapeRenderer.setColor(Color.DARK_GRAY);
+        shapeRenderer.rect(posX, posY, width, HEIGHT);
+
+        // Green side (left player's health)
+        shapeRenderer.setColor(Color.GREEN);
+        shapeRenderer.rect(posX, posY, (pivot / 100f) * width, HEIGHT);
+
+        // Red side (right player's pushback)
+        shapeRenderer.setColor(Color.RED);
+        shapeRenderer.rect(posX + (pivot / 100f) * width, posY, width - (pivot / 100f) * width, HEIGHT);
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.client;
+
+import io.github.logic.data.GameStateDTO;
+
+/**
+ * One decoded server message on its way from the reader thread to the render thread. Filled
+ * by the reader before it is queued and left untouched until the render thread hands it back
+ * to the pool, so the fields need no synchronisation.
+ */
+final class NetworkMessage {
+    static final int LINE = 0;
+    static final int GAME_STATE = 1;
+
+    int kind;
+    String line;
+    GameStateDTO state;
+
+    NetworkMessage set(int kind, String line, GameStateDTO state) {
+        this.kind = kind;
+        this.line = line;
+        this.state = state;
+        return this;
+    }
+
+    void clear() {
+        line = null;
+        state = null;
+    }
+}
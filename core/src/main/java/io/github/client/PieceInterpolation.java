@@ -0,0 +1,26 @@
+package io.github.client;
+
+import io.github.logic.tetris_battle.board.Board;
+import io.github.logic.tetris_battle.board.Tetromino;
+import io.github.logic.tetris_battle.helper.CollisionChecker;
+
+/**
+ * Smooths gravity between simulation steps. The falling piece is drawn part of the way down to
+ * the next row, in proportion to how far the board is into its gravity interval, so it glides
+ * instead of jumping a cell at a time. Moves and rotations are drawn exactly where they are, and
+ * a piece resting on the stack is not shifted since gravity will lock it rather than move it.
+ */
+public final class PieceInterpolation {
+    private PieceInterpolation() {
+    }
+
+    /** Vertical pixel offset of the falling piece; {@code gravityProgress} runs from 0 to 1 over a gravity interval. */
+    public static float fallOffset(Board board, float gravityProgress) {
+        Tetromino piece = board.getCurrentRunningPiece();
+        if (piece == null || CollisionChecker.getInstance().checkCollision(
+                piece.getType(), piece.getRotationState(), piece.getRow() - 1, piece.getCol(), board.getCells())) {
+            return 0f;
+        }
+        return -Math.min(Math.max(gravityProgress, 0f), 1f) * BoardRenderer.BLOCK_SIZE;
+    }
+}
@@ -0,0 +1,136 @@
+package io.github.client;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import io.github.logic.utils.LabelText;
+
+/**
+ * Render statistics overlay, toggled with F3 in the game screens. Shows the CPU time spent in
+ * the render passes (average and worst frame over the last {@link #TIMING_WINDOW} frames), the
+ * batch flushes (SpriteBatch render calls) and the GL draw calls and texture binds of the
+ * previous frame, which also counts the cached board layers and the shape renderer, and how
+ * many labels were given new text ({@link LabelText}), which re-lays them out.
+ *
+ * Each screen also states how many batch flushes a frame should take. Going over that logs a
+ * warning when it starts, whether or not the overlay is shown.
+ */
+public class RenderStats {
+    private static final String TAG = "RenderStats";
+    private static final int TIMING_WINDOW = 60;
+
+    private static RenderStats instance;
+
+    private GLProfiler profiler;
+    private BitmapFont font;
+    private boolean visible = false;
+    private final StringBuilder text = new StringBuilder();
+
+    private SpriteBatch lastBatch;
+    private int lastBatchCalls;
+    private boolean overBudget = false;
+
+    private long renderStart = -1;
+    private long windowNanos;
+    private long windowMaxNanos;
+    private int windowFrames;
+    private long averageMicros;
+    private long maxMicros;
+
+    private RenderStats() {
+    }
+
+    public static RenderStats getInstance() {
+        if (instance == null) {
+            instance = new RenderStats();
+        }
+        return instance;
+    }
+
+    /** Call before the screen's first render pass (the screen clear), after the simulation steps. */
+    public void beginRender() {
+        renderStart = System.nanoTime();
+    }
+
+    /**
+     * Call once at the end of a frame, after everything else was drawn with {@code batch}.
+     * {@code maxBatchFlushes} is the number of times the screen's sprite pass may flush {@code batch}.
+     */
+    public void draw(SpriteBatch batch, int maxBatchFlushes) {
+        if (renderStart >= 0) {
+            recordRenderTime(System.nanoTime() - renderStart);
+            renderStart = -1;
+        }
+        // totalRenderCalls never resets, unlike renderCalls which only covers the last begin/end
+        int batchCalls = batch == lastBatch ? batch.totalRenderCalls - lastBatchCalls : 0;
+        int labelUpdates = LabelText.takeUpdates();
+        if (batchCalls > maxBatchFlushes && !overBudget) {
+            Gdx.app.log(TAG, "Sprite batch flushed " + batchCalls + " times in a frame, the screen expects at most " + maxBatchFlushes);
+        }
+        overBudget = batchCalls > maxBatchFlushes;
+
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F3)) {
+            setVisible(!visible);
+        }
+        if (visible) {
+            drawOverlay(batch, batchCalls, labelUpdates);
+        }
+        // Taken after the overlay so its own flush is not counted next frame
+        lastBatch = batch;
+        lastBatchCalls = batch.totalRenderCalls;
+    }
+
+    private void recordRenderTime(long nanos) {
+        windowNanos += nanos;
+        windowMaxNanos = Math.max(windowMaxNanos, nanos);
+        if (++windowFrames == TIMING_WINDOW) {
+            averageMicros = windowNanos / TIMING_WINDOW / 1000;
+            maxMicros = windowMaxNanos / 1000;
+            windowNanos = 0;
+            windowMaxNanos = 0;
+            windowFrames = 0;
+        }
+    }
+
+    // Milliseconds with one decimal, without going through a float
+    private void appendMillis(long micros) {
+        text.append(micros / 1000).append('.').append(micros / 100 % 10);
+    }
+
+    private void drawOverlay(SpriteBatch batch, int batchCalls, int labelUpdates) {
+        text.setLength(0);
+        text.append("render cpu ms: ");
+        appendMillis(averageMicros);
+        text.append(" avg ");
+        appendMillis(maxMicros);
+        text.append(" max  batch calls: ").append(batchCalls)
+            .append("  draw calls: ").append(profiler.getDrawCalls())
+            .append("  texture binds: ").append(profiler.getTextureBindings())
+            .append("  label updates: ").append(labelUpdates);
+
+        batch.begin();
+        font.draw(batch, text, 10, Gdx.graphics.getHeight() - 10);
+        batch.end();
+
+        // Reset after drawing so the overlay's own call is not counted next frame
+        profiler.reset();
+    }
+
+    public void setVisible(boolean visible) {
+        this.visible = visible;
+        if (visible) {
+            if (profiler == null) {
+                profiler = new GLProfiler(Gdx.graphics);
+                font = new BitmapFont();
+                font.setColor(Color.YELLOW);
+            }
+            profiler.enable();
+            profiler.reset();
+        } else if (profiler != null) {
+            profiler.disable();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package io.github.client;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.FloatArray;
+
+/**
+ * The static black panels with white borders behind the boards and the next piece previews.
+ * Screens add them once and draw every frame in three passes: the fills in the filled shape
+ * pass, then all sprites, then the borders in the line pass, so a frame needs one begin/end
+ * per renderer instead of one per panel.
+ */
+public class ScreenPanels {
+    private final FloatArray rects = new FloatArray(); // x, y, width, height per panel
+
+    public void add(float x, float y, float width, float height) {
+        rects.add(x, y, width, height);
+    }
+
+    /** Call between shapeRenderer.begin(Filled) and end(). */
+    public void drawFills(ShapeRenderer shapeRenderer) {
+        shapeRenderer.setColor(Color.BLACK);
+        float[] items = rects.items;
+        for (int i = 0; i < rects.size; i += 4) {
+            shapeRenderer.rect(items[i], items[i + 1], items[i + 2], items[i + 3]);
+        }
+    }
+
+    /** Call between shapeRenderer.begin(Line) and end(). */
+    public void drawBorders(ShapeRenderer shapeRenderer) {
+        shapeRenderer.setColor(Color.WHITE);
+        float[] items = rects.items;
+        for (int i = 0; i < rects.size; i += 4) {
+            shapeRenderer.rect(items[i], items[i + 1], items[i + 2], items[i + 3]);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.client;
+
+import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
+import io.github.logic.tetris_battle.skill.Skill;
+import io.github.logic.utils.AppColors;
+import io.github.logic.utils.LabelText;
+
+import java.util.Map;
+
+/**
+ * The skill buttons of a game screen with their skills, flattened from the screen's map into
+ * arrays for the per-frame loops, in the order the buttons are stacked. Each frame the buttons
+ * are enabled, coloured and labelled with the skill's countdown, through {@link LabelText} so
+ * a label only changes when the displayed number does.
+ */
+public class SkillButtons {
+    private final TextButton[] buttons;
+    private final Skill[] skills;
+    private final LabelText[] texts;
+
+    public SkillButtons(Map<TextButton, Skill> skills) {
+        this.buttons = new TextButton[skills.size()];
+        this.skills = new Skill[skills.size()];
+        this.texts = new LabelText[skills.size()];
+        int index = 0;
+        for (Map.Entry<TextButton, Skill> entry : skills.entrySet()) {
+            buttons[index] = entry.getKey();
+            this.skills[index] = entry.getValue();
+            texts[index] = new LabelText(entry.getKey().getLabel());
+            index++;
+        }
+    }
+
+    public int size() {
+        return buttons.length;
+    }
+
+    public TextButton getButton(int index) {
+        return buttons[index];
+    }
+
+    public void tick(float step) {
+        for (Skill skill : skills) {
+            skill.update(step);
+        }
+    }
+
+    public void update() {
+        for (int i = 0; i < buttons.length; i++) {
+            TextButton button = buttons[i];
+            Skill skill = skills[i];
+
+            int secondsLeft = (int) Math.ceil(skill.getCurrentCooldown());
+
+            if (skill.isActive()) {
+                button.setDisabled(true);
+                button.setColor(AppColors.BUTTON_BG_MAGENTA);
+                texts[i].set(skill.getInstruction(), " (", (int) skill.getRemainingActiveTime(), ")");
+            } else {
+                boolean canUse = skill.canActivate();
+                button.setDisabled(!canUse);
+                if (canUse)
+                    button.setColor(AppColors.BUTTON_BG_CYAN);
+                else
+                    button.setColor(AppColors.PANEL_BG_LIGHT);
+                if (canUse)
+                    texts[i].set(skill.getName());
+                else
+                    texts[i].set(skill.getName(), " (", secondsLeft, ")");
+            }
+        }
+    }
+}
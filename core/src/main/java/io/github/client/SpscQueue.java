@@ -0,0 +1,55 @@
+package io.github.client;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded lock-free queue for exactly one producer thread and one consumer thread. Each side
+ * only writes its own counter and caches the other one, so the common case touches no shared
+ * state beyond a single ordered store.
+ */
+public final class SpscQueue<E> {
+    private final Object[] buffer;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong(); // next slot to read, written by the consumer
+    private final AtomicLong tail = new AtomicLong(); // next slot to write, written by the producer
+    private long cachedHead = 0; // producer's last view of head
+    private long cachedTail = 0; // consumer's last view of tail
+
+    /** {@code capacity} is rounded up to a power of two. */
+    public SpscQueue(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.buffer = new Object[size];
+        this.mask = size - 1;
+    }
+
+    /** Producer side. Returns false when the queue is full. */
+    public boolean offer(E element) {
+        long t = tail.get();
+        if (t - cachedHead >= buffer.length) {
+            cachedHead = head.get();
+            if (t - cachedHead >= buffer.length) {
+                return false;
+            }
+        }
+        buffer[(int) t & mask] = element;
+        tail.lazySet(t + 1); // publishes the element
+        return true;
+    }
+
+    /** Consumer side. Returns null when the queue is empty. */
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        long h = head.get();
+        if (h >= cachedTail) {
+            cachedTail = tail.get();
+            if (h >= cachedTail) {
+                return null;
+            }
+        }
+        int index = (int) h & mask;
+        E element = (E) buffer[index];
+        buffer[index] = null;
+        head.lazySet(h + 1); // frees the slot
+        return element;
+    }
+}
@@ -1,7 +1,11 @@
 package io.github.client.ui;
 
 import com.badlogic.gdx.Screen;
+import io.github.logic.data.GameStateDTO;
 
 public interface HandleMessageScreen extends Screen {
     void HandleMessage(String msg);
+
+    default void HandleGameState(GameStateDTO state) {
+    }
 }
@@ -0,0 +1,60 @@
+package io.github.client.ui;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.ScreenAdapter;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import io.github.logic.utils.AppColors;
+import io.github.logic.utils.Assets;
+
+/** First screen: loads the startup assets a slice per frame behind a progress bar. */
+public class LoadingScreen extends ScreenAdapter {
+    private static final float BAR_WIDTH = 400;
+    private static final float BAR_HEIGHT = 20;
+
+    private final Main main;
+    private ShapeRenderer shapeRenderer;
+
+    public LoadingScreen(Main main) {
+        this.main = main;
+    }
+
+    @Override
+    public void show() {
+        shapeRenderer = new ShapeRenderer();
+    }
+
+    @Override
+    public void render(float delta) {
+        if (Assets.getInstance().update()) {
+            main.onAssetsLoaded();
+            return;
+        }
+
+        Gdx.gl.glClearColor(AppColors.BACKGROUND.r, AppColors.BACKGROUND.g, AppColors.BACKGROUND.b, AppColors.BACKGROUND.a);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+        float x = (Gdx.graphics.getWidth() - BAR_WIDTH) / 2f;
+        float y = (Gdx.graphics.getHeight() - BAR_HEIGHT) / 2f;
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+        shapeRenderer.setColor(Color.BLACK);
+        shapeRenderer.rect(x, y, BAR_WIDTH, BAR_HEIGHT);
+        shapeRenderer.setColor(AppColors.BUTTON_BG_CYAN);
+        shapeRenderer.rect(x, y, BAR_WIDTH * Assets.getInstance().getProgress(), BAR_HEIGHT);
+        shapeRenderer.end();
+    }
+
+    @Override
+    public void hide() {
+        dispose();
+    }
+
+    @Override
+    public void dispose() {
+        if (shapeRenderer != null) {
+            shapeRenderer.dispose();
+            shapeRenderer = null;
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package io.github.client.ui;
 
 import com.badlogic.gdx.Game;
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
+import io.github.client.BoardRenderer;
 import io.github.client.ClientConnection;
+import io.github.logic.data.GameStateDTO;
+import io.github.logic.utils.Assets;
 import io.github.logic.utils.AudioManager;
 import io.github.logic.utils.Messages;
 
@@ -15,21 +19,23 @@ public class Main extends Game {
     public static MatchScreen matchScreen;
 
     private Timer reconnectTimer;
-    private long lastPongTime = 0;
     private static final long TIMEOUT_MS = 10000; // 6 seconds timeout
 
     private String userName = "";
 
+    // Render thread only. Until the match screen exists, server messages wait in the connection's
+    // inbox and the newest connection status (conn / no_conn) is kept here
+    private boolean assetsLoaded = false;
+    private String pendingStatus;
+
     public String getUserName () {return userName;}
     public void setUserName(String userName) {this.userName = userName;}
 
     @Override
     public void create() {
-        // Preload tất cả audio assets
-        AudioManager.getInstance().preloadAllAudio();
-        
-        matchScreen = new MatchScreen(this);
-        setScreen(matchScreen);
+        // Skins, the block atlas and sound effects load behind the loading screen
+        Assets.getInstance().queueStartup();
+        setScreen(new LoadingScreen(this));
 
         connectToServer();
 
@@ -42,7 +48,7 @@ public class Main extends Game {
                     reconnect();
                 } else {
                     long now = System.currentTimeMillis();
-                    if (now - lastPongTime > TIMEOUT_MS) {
+                    if (now - client.getLastPongTime() > TIMEOUT_MS) {
                         System.out.println("Server unresponsive. Attempting to reconnect...");
                         client.close();
                         client = null;
@@ -58,39 +64,70 @@ public class Main extends Game {
         AudioManager.getInstance().playMusic("menu_bg", true);
     }
 
+    /** Called by the loading screen once the startup assets are in. */
+    public void onAssetsLoaded() {
+        assetsLoaded = true;
+        matchScreen = new MatchScreen(this);
+        setScreen(matchScreen);
+        if (pendingStatus != null) {
+            matchScreen.HandleMessage(pendingStatus); // the first attempt was made while loading
+            pendingStatus = null;
+        }
+    }
+
     public void connectToServer() {
         try {
-            client = new ClientConnection("localhost", 5000, message -> {
-                System.out.println("From server: " + message);
-                if (message.equals("pong")) {
-                    lastPongTime = System.currentTimeMillis(); // Update last pong time
-                    return;
+            client = new ClientConnection("localhost", 5000, new ClientConnection.MessageListener() {
+                @Override
+                public void onMessage(String message) {
+                    System.out.println("From server: " + message);
+                    if (screen instanceof HandleMessageScreen) {
+                        ((HandleMessageScreen) screen).HandleMessage(message);
+                    }
                 }
 
-                if (screen instanceof HandleMessageScreen) {
-                    ((HandleMessageScreen) screen).HandleMessage(message);
+                @Override
+                public void onGameState(GameStateDTO state) {
+                    if (screen instanceof HandleMessageScreen) {
+                        ((HandleMessageScreen) screen).HandleGameState(state);
+                    }
                 }
             });
             client.start();
 
             // Immediately ping server
             client.send("ping");
-            lastPongTime = System.currentTimeMillis();
 
-            if (screen instanceof HandleMessageScreen) {
-                ((HandleMessageScreen) screen).HandleMessage(Messages.CONN);
-            }
+            notifyScreen(Messages.CONN);
             System.out.println("Connected to host.");
 
         } catch (IOException e) {
             client = null;
-            if (screen instanceof HandleMessageScreen) {
-                ((HandleMessageScreen) screen).HandleMessage(Messages.NO_CONN);
-            }
+            notifyScreen(Messages.NO_CONN);
             System.out.println("Failed to connect: " + e.getMessage());
         }
     }
 
+    // Reconnects run on the timer thread, screens are only touched from the render thread
+    private void notifyScreen(String message) {
+        Gdx.app.postRunnable(() -> {
+            if (!assetsLoaded) {
+                pendingStatus = message;
+            } else if (screen instanceof HandleMessageScreen) {
+                ((HandleMessageScreen) screen).HandleMessage(message);
+            }
+        });
+    }
+
+    @Override
+    public void render() {
+        ClientConnection connection = client;
+        if (connection != null && assetsLoaded) {
+            connection.dispatch(ClientConnection.MAX_DISPATCH_PER_FRAME);
+        }
+        super.render();
+    }
+
     public void reconnect() {
         connectToServer();
     }
@@ -104,6 +141,9 @@ public class Main extends Game {
         reconnectTimer.cancel();
         if (client != null) client.close();
         super.dispose();
+        BoardRenderer.disposeAssets();
+        AudioManager.getInstance().dispose();
+        Assets.getInstance().dispose();
     }
 
     
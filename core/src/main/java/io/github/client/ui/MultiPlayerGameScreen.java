@@ -10,28 +10,50 @@ import com.badlogic.gdx.scenes.scene2d.ui.*;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.utils.TimeUtils;
 import com.google.gson.Gson;
+import io.github.client.BoardLayer;
+import io.github.client.BoardRenderer;
+import io.github.client.RenderStats;
+import io.github.client.ScreenPanels;
+import io.github.client.SkillButtons;
+import io.github.client.ClientBoardListener;
+import io.github.client.ClientSkillListener;
+import io.github.client.GameStateSync;
+import io.github.client.HealthBarRenderer;
 import io.github.logic.data.GameStateDTO;
 import io.github.logic.data.PlayerState;
 import io.github.logic.data.TetrominoDTO;
+import io.github.logic.net.Protocol;
 import io.github.logic.tetris_battle.Player;
 import io.github.logic.utils.*;
 import io.github.logic.tetris_battle.board.Board;
 import io.github.logic.tetris_battle.board.Tetromino;
+import io.github.logic.tetris_battle.board.TetrominoSpawner;
+import io.github.logic.tetris_battle.helper.FixedTimestep;
 import io.github.logic.tetris_battle.score.HealthBar;
 import io.github.logic.tetris_battle.skill.ExtraPointsSkill;
 import io.github.logic.tetris_battle.skill.LockOpponentSkill;
 import io.github.logic.tetris_battle.skill.Skill;
 import io.github.logic.tetris_battle.skill.SpeedBoostSkill;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 
 public class MultiPlayerGameScreen implements Screen, InputProcessor, HandleMessageScreen {
-    private final int ROWS = 20, COLS = 10, SIZE = 30;
+    private final int ROWS = Protocol.BOARD_ROWS, COLS = Protocol.BOARD_COLS, SIZE = 30;
     private final int spaceBetween2Boards = SIZE * 2;
     private final int startPos = SIZE * 3;
 
+    // Next piece previews above the boards, and the health bar above them
+    private final int leftPreviewXPos = (int) ((COLS * SIZE) / 2 - 0.5f * SIZE);
+    private final int rightPreviewXPos = (int) ((COLS * SIZE * 3) / 2 + 5.5f * SIZE);
+    private final int previewYPos = ROWS * SIZE + 3 * SIZE;
+    private final int previewWidth = SIZE * 6;
+    private final int previewHeight = SIZE * 5;
+    private final int healthBarPosY = previewYPos + previewHeight + SIZE;
+    private final ScreenPanels panels = new ScreenPanels();
+
     private Main main;
     private String roomId;
     private HealthBar healthBar;
@@ -39,6 +61,7 @@ public class MultiPlayerGameScreen implements Screen, InputProcessor, HandleMess
 
     private Player player;
     private Board opponentBoard;
+    private final BoardLayer opponentLayer = new BoardLayer();
 
     private long startTime;
     private long endTime;
@@ -46,6 +69,7 @@ public class MultiPlayerGameScreen implements Screen, InputProcessor, HandleMess
 
     private ShapeRenderer shapeRenderer;
     private SpriteBatch batch;
+    private final FixedTimestep timestep = new FixedTimestep();
 
     private Stage stage;
     private Skin skin;
@@ -55,13 +79,20 @@ public class MultiPlayerGameScreen implements Screen, InputProcessor, HandleMess
 
     private Map<TextButton, Skill> skills;
     private Map<String, Skill> skillNames;
+    private SkillButtons skillButtons;
 
     Dialog dialog;
     private float gameStateTimer = 0f;
     private final float GAME_STATE_INTERVAL = 0.1f;
-    private int lastReceivedAck = 0;
-
-    public MultiPlayerGameScreen(Main main, HealthBar healthBar, String roomId, boolean isOwner, Set<String> selectedSkills) {
+    private final GameStateSync stateSync = new GameStateSync();
+    private float lastSentHealth = -1f;
+    private final Gson gson = new Gson();
+    // The server runs both boards: send it our inputs instead of game states
+    private final boolean authoritative = Main.client.isServerAuthoritative();
+    private int inputSeq = 0;
+
+    public MultiPlayerGameScreen(Main main, HealthBar healthBar, String roomId, boolean isOwner, Set<String> selectedSkills,
+                                 TetrominoSpawner spawner) {
         this.main = main;
         this.roomId = roomId;
         this.healthBar = healthBar;
@@ -70,7 +101,8 @@ public class MultiPlayerGameScreen implements Screen, InputProcessor, HandleMess
         shapeRenderer = new ShapeRenderer();
         batch = new SpriteBatch();
 
-        player = new Player(new Board(ROWS, COLS, Side.LEFT, null, healthBar, roomId));
+        player = new Player(new Board(ROWS, COLS, Side.LEFT, spawner, healthBar, roomId));
+        player.getBoard().setListener(ClientBoardListener.getInstance());
         opponentBoard = new Board(ROWS, COLS, Side.RIGHT, null, healthBar, roomId);
 
         this.healthBar.setWidth(COLS * SIZE * 2 + spaceBetween2Boards);
@@ -83,7 +115,8 @@ public class MultiPlayerGameScreen implements Screen, InputProcessor, HandleMess
         multiplexer.addProcessor(this);
         Gdx.input.setInputProcessor(multiplexer);
 
-        prepareSkills(selectedSkills);
+        // The server does not simulate skills, authoritative rooms play without them
+        prepareSkills(authoritative ? Collections.<String>emptySet() : selectedSkills);
         setupUI();
     }
 
@@ -93,6 +126,7 @@ public class MultiPlayerGameScreen implements Screen, InputProcessor, HandleMess
         for (String selectedSkill : selectedSkills) {
             if (selectedSkill.equals(ExtraPointsSkill.getStaticName())) {
                 Skill extraPointSkill = new ExtraPointsSkill(player.getScoreManager(), SkillConfigs.EXTRA_POINT_CD);
+                extraPointSkill.setListener(ClientSkillListener.getInstance());
 
                 // Declare button reference holder as final array to allow modification inside lambda
                 final TextButton[] extraPointBtn = new TextButton[1];
@@ -110,6 +144,7 @@ public class MultiPlayerGameScreen implements Screen, InputProcessor, HandleMess
                 mapName.put(extraPointSkill.getName(), extraPointSkill);
             } else if (selectedSkill.equals(LockOpponentSkill.getStaticName())) {
                 Skill lockOpponentSkill = new LockOpponentSkill(SkillConfigs.LOCK_OPPONENT_CD);
+                lockOpponentSkill.setListener(ClientSkillListener.getInstance());
 
                 final TextButton[] lockOpponentBtn = new TextButton[1];
                 lockOpponentBtn[0] = UIFactory.createTextButton(lockOpponentSkill.getName(), new ClickListener() {
@@ -126,6 +161,7 @@ public class MultiPlayerGameScreen implements Screen, InputProcessor, HandleMess
                 mapName.put(lockOpponentSkill.getName(), lockOpponentSkill);
             } else if (selectedSkill.equals(SpeedBoostSkill.getStaticName())) {
                 Skill speedBoostSkill = new SpeedBoostSkill(player, SkillConfigs.SPEED_BOOST_CD);
+                speedBoostSkill.setListener(ClientSkillListener.getInstance());
 
                 final TextButton[] speedBoostBtn = new TextButton[1];
                 speedBoostBtn[0] = UIFactory.createTextButton(speedBoostSkill.getName(), new ClickListener() {
@@ -152,7 +188,7 @@ public class MultiPlayerGameScreen implements Screen, InputProcessor, HandleMess
         leftNextPieceLabel = UIFactory.createLabel("NEXT PIECE");
         rightNextPieceLabel = UIFactory.createLabel("NEXT PIECE");
 
-        Tetromino.loadAssets();
+        BoardRenderer.loadAssets();
 
         leaveRoomBtn = UIFactory.createTextButton("LEAVE", new ClickListener() {
             @Override
@@ -169,67 +205,74 @@ public class MultiPlayerGameScreen implements Screen, InputProcessor, HandleMess
                 main.setScreen(new MatchScreen(main));
             }
         });
-        stage.addActor(leaveRoomBtn);
+        skillButtons = new SkillButtons(skills);
 
-        for (Map.Entry<TextButton, Skill> entry : skills.entrySet())
-        {
-            stage.addActor(entry.getKey());
+        layoutActors();
+    }
+
+    // Positions only depend on the board size, so the actors and panels are placed once
+    private void layoutActors() {
+        panels.add(startPos, SIZE, SIZE * COLS, SIZE * ROWS);
+        panels.add(startPos + COLS * SIZE + spaceBetween2Boards, SIZE, SIZE * COLS, SIZE * ROWS);
+        panels.add(leftPreviewXPos - previewWidth / 4f, previewYPos - previewHeight / 4f, previewWidth, previewHeight);
+        panels.add(rightPreviewXPos - previewWidth / 4f, previewYPos - previewHeight / 4f, previewWidth, previewHeight);
+
+        leftNextPieceLabel.setPosition(leftPreviewXPos, previewYPos + previewHeight - SIZE);
+        stage.addActor(leftNextPieceLabel);
+        rightNextPieceLabel.setPosition(rightPreviewXPos, previewYPos + previewHeight - SIZE);
+        stage.addActor(rightNextPieceLabel);
+
+        // Skill buttons, stacked beside the left preview
+        float buttonX = leftPreviewXPos + previewWidth - SIZE;
+        float buttonY = previewYPos + previewHeight / 2;
+        float buttonSpacing = 20;
+        for (int i = 0; i < skillButtons.size(); i++) {
+            TextButton btn = skillButtons.getButton(i);
+            btn.setSize(270, 40);
+            btn.setPosition(buttonX, buttonY - i * (btn.getHeight() + buttonSpacing));
+            stage.addActor(btn);
         }
+
+        leaveRoomBtn.setPosition(startPos + healthBar.getWidth() + 0.25f * SIZE, healthBarPosY - (float) SIZE /2);
+        leaveRoomBtn.setColor(Color.RED);
+        stage.addActor(leaveRoomBtn);
     }
 
-    private void updateSkills(float delta) {
-        for (Map.Entry<TextButton, Skill> entry : skills.entrySet()) {
-            TextButton button = entry.getKey();
-            Skill skill = entry.getValue();
-
-            skill.update(delta);
-
-            int secondsLeft = (int) Math.ceil(skill.getCurrentCooldown());
-
-            if (skill.isActive()) {
-                button.setDisabled(true);
-                button.setColor(AppColors.BUTTON_BG_MAGENTA);
-                button.setText(skill.getInstruction() + " (" + (int)skill.getRemainingActiveTime() + ")");
-            } else {
-                boolean canUse = skill.canActivate();
-                button.setDisabled(!canUse);
-                if (canUse)
-                    button.setColor(AppColors.BUTTON_BG_CYAN);
-                else
-                    button.setColor(AppColors.PANEL_BG_LIGHT);
-                button.setText(canUse
-                    ? skill.getName()
-                    : skill.getName() + " (" + secondsLeft + ")");
-            }
+    // Only inputs the local board can apply are sent, the server replays them on its copy
+    private void sendInput(String action) {
+        if (authoritative && player.getBoard().getCurrentRunningPiece() != null) {
+            Main.client.send(Messages.INPUT + Messages.SEPARATOR + action + Messages.SEPARATOR + (++inputSeq));
         }
     }
 
     private void sendGameState(float delta) {
+        if (authoritative) {
+            return;
+        }
         gameStateTimer += delta;
 
         if (gameStateTimer >= GAME_STATE_INTERVAL) {
             gameStateTimer = 0;
 
             Board board = player.getBoard();
-            GameStateDTO state = new GameStateDTO();
-            state.roomId = this.roomId;
-            state.player = new PlayerState();
-            state.player.grid = board.getGrid();
-            state.player.pieceIndex = board.getCurrentIndex();
-            if (isOwner)
-                state.player.health = healthBar.getPivot();
-            else {
-                state.player.health = healthBar.getLastScore();
-                healthBar.setLastScore(0f);
-            }
+            float health = isOwner ? healthBar.getPivot() : healthBar.getLastScore();
+            boolean healthChanged = isOwner ? health != lastSentHealth : health != 0f;
             Tetromino currentPiece = board.getCurrentRunningPiece();
-            state.player.currentPiece = (currentPiece != null) ? currentPiece.toDTO() : null;
             Tetromino nextPiece = board.getNextTetromino();
-            state.player.nextPiece = (nextPiece != null) ? nextPiece.toDTO() : null;
-            state.ack = lastReceivedAck + 1;
 
-            String json = new Gson().toJson(state);
-            Main.client.send(Messages.GAME_STATE + Messages.SEPARATOR + json);
+            GameStateDTO state = stateSync.nextState(roomId, board.getGrid(),
+                (currentPiece != null) ? currentPiece.toDTO() : null,
+                (nextPiece != null) ? nextPiece.toDTO() : null,
+                board.getCurrentIndex(), health, healthChanged);
+            if (state == null) {
+                return; // nothing changed since the last state the opponent has
+            }
+
+            if (!isOwner) {
+                healthBar.setLastScore(0f);
+            }
+            lastSentHealth = health;
+            Main.client.sendGameState(state);
         }
     }
 
@@ -249,18 +292,26 @@ public class MultiPlayerGameScreen implements Screen, InputProcessor, HandleMess
     public void render(float delta) {
         if (stage == null) return;
 
-        updateSkills(delta);
+        int steps = timestep.advance(delta);
+        for (int i = 0; i < steps; i++) {
+            skillButtons.tick(timestep.getStep());
+            if (!authoritative) {
+                player.update(timestep.getStep()); // otherwise gravity and spawns come from the server
+            }
+        }
+        // Key presses still move the piece locally, their sounds need delivering either way
+        player.getBoard().dispatchEvents();
+        skillButtons.update();
         checkEndGame();
-        player.update(delta);
         sendGameState(delta);
 
+        RenderStats.getInstance().beginRender();
         clearScreen();
         stage.act(Gdx.graphics.getDeltaTime());
 
-        drawBoards();
-        drawNextPiecePreviews();
-        drawHealthBarAndUI(delta);
+        drawBoardsAndPreviews();
         stage.draw();
+        RenderStats.getInstance().draw(batch, 2); // one flush per board, each board's cache ends the batch
     }
 
     private void clearScreen() {
@@ -268,124 +319,36 @@ public class MultiPlayerGameScreen implements Screen, InputProcessor, HandleMess
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
     }
 
-    private void drawBoards() {
-        // Draw black background areas for boards
+    // Filled shapes, then sprites, then lines, so each renderer is flushed once per frame
+    private void drawBoardsAndPreviews() {
         shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-        shapeRenderer.setColor(0, 0, 0, 1);
-        shapeRenderer.rect(startPos, SIZE, SIZE * COLS, SIZE * ROWS);
-        shapeRenderer.rect(startPos + COLS * SIZE + spaceBetween2Boards, SIZE, SIZE * COLS, SIZE * ROWS);
+        panels.drawFills(shapeRenderer);
+        HealthBarRenderer.draw(healthBar, shapeRenderer, startPos, healthBarPosY);
         shapeRenderer.end();
 
-        // Draw game boards
         batch.begin();
-        player.drawBoard(batch, startPos, SIZE);
-        opponentBoard.draw(batch, startPos + COLS * SIZE + spaceBetween2Boards, SIZE);
-        batch.end();
-
-        // Draw white borders
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
-        shapeRenderer.setColor(1, 1, 1, 1);
-        shapeRenderer.rect(startPos, SIZE, COLS * SIZE, ROWS * SIZE);
-        shapeRenderer.rect(startPos + COLS * SIZE + spaceBetween2Boards, SIZE, COLS * SIZE, ROWS * SIZE);
-        shapeRenderer.end();
-    }
-
-    private void drawNextPiecePreviews() {
-        drawPreview(player.getNextTetromino(), leftNextPieceLabel, true);
-        drawPreview(opponentBoard.getNextTetromino(), rightNextPieceLabel, false);
-    }
-
-    private void drawPreview(Tetromino piece, Label label, boolean isLeft) {
-        int previewXPos = isLeft ?
-            (int) ((COLS * SIZE) / 2 - 0.5f * SIZE) :
-            (int) ((COLS * SIZE * 3) / 2 + 5.5f * SIZE);
-        int previewYPos = ROWS * SIZE + 3 * SIZE;
-        int previewWidth = SIZE * 6;
-        int previewHeight = SIZE * 5;
-
-        label.setPosition(previewXPos, previewYPos + previewHeight - SIZE);
-        stage.addActor(label);
-
-        // Draw border
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
-        shapeRenderer.setColor(1, 1, 1, 1);
-        shapeRenderer.rect(previewXPos - previewWidth / 4f, previewYPos - previewHeight / 4f, previewWidth + 0.5f, previewHeight + 0.5f);
-        shapeRenderer.end();
-
-        // Draw background
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-        shapeRenderer.setColor(0, 0, 0, 1);
-        shapeRenderer.rect(previewXPos - previewWidth / 4f, previewYPos - previewHeight / 4f, previewWidth, previewHeight);
-        shapeRenderer.end();
-
-        if (piece != null) {
-            batch.begin();
-            piece.draw(batch, previewXPos, previewYPos, ROWS);
-            batch.end();
+        player.drawBoard(batch, startPos, SIZE, player.getBoard().getGravityProgress());
+        BoardRenderer.drawBoard(opponentBoard, opponentLayer, batch, startPos + COLS * SIZE + spaceBetween2Boards, SIZE);
+        Tetromino nextPiece = player.getNextTetromino();
+        if (nextPiece != null) {
+            BoardRenderer.drawPiece(nextPiece, batch, leftPreviewXPos, previewYPos, ROWS);
         }
-
-        // Draw skill buttons if available
-        if (isLeft) {
-            if (skills != null && !skills.isEmpty()) {
-                float buttonX = (int) previewXPos + previewWidth - SIZE;
-                float buttonY = previewYPos + previewHeight / 2;
-                float buttonSpacing = 20;
-
-                int index = 0;
-                for (TextButton btn : skills.keySet()) {
-                    btn.setSize(270, 40);
-                    btn.setPosition(buttonX, buttonY - index * (btn.getHeight() + buttonSpacing));
-                    if (btn.getStage() == null) {
-                        stage.addActor(btn); // avoid re-adding
-                    }
-                    index++;
-                }
-            }
+        Tetromino opponentNextPiece = opponentBoard.getNextTetromino();
+        if (opponentNextPiece != null) {
+            BoardRenderer.drawPiece(opponentNextPiece, batch, rightPreviewXPos, previewYPos, ROWS);
         }
-    }
-
-    private void drawHealthBarAndUI(float delta) {
-        int maxHeight = Math.max(
-            ROWS * SIZE + 3 * SIZE + SIZE * 5 + SIZE,
-            ROWS * SIZE + 3 * SIZE + SIZE * 5 + SIZE
-        );
+        batch.end();
 
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-        healthBar.draw(shapeRenderer, startPos, maxHeight);
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
+        panels.drawBorders(shapeRenderer);
         shapeRenderer.end();
-
-        leaveRoomBtn.setPosition(startPos + healthBar.getWidth() + 0.25f * SIZE, maxHeight - (float) SIZE /2);
-        leaveRoomBtn.setColor(Color.RED);
-        stage.addActor(leaveRoomBtn);
     }
 
 
     @Override
     public void HandleMessage(String msg) {
         String[] parts = msg.split(Messages.SEPARATOR);
-        if (parts[0].equals(Messages.GAME_STATE)) {
-            String json = msg.substring(Messages.GAME_STATE.length() + Messages.SEPARATOR.length());
-            GameStateDTO dto = new Gson().fromJson(json, GameStateDTO.class);
-            if (!dto.roomId.equals(this.roomId) || dto.ack <= lastReceivedAck) return;
-            lastReceivedAck = dto.ack;
-
-            opponentBoard.setGrid(dto.player.grid);
-            TetrominoDTO tetrominoDTO = dto.player.currentPiece;
-            opponentBoard.setCurrentRunningPiece(tetrominoDTO != null ? Tetromino.fromDTO(tetrominoDTO) : null);
-
-            tetrominoDTO = dto.player.nextPiece;
-            opponentBoard.setNextRunningPiece(tetrominoDTO != null ? Tetromino.fromDTO(tetrominoDTO) : null);
-
-            if (isOwner) {
-                float opponentDamage = dto.player.health;
-                healthBar.setPivot(healthBar.getPivot() - opponentDamage);
-            } else {
-                if (healthBar.getLastScore() != 0f) return;
-                float opponentPivot = dto.player.health;
-                healthBar.setPivot(100 - opponentPivot);
-            }
-
-        } else if (parts[0].equals(Messages.PLAYER_LEFT)) {
+        if (parts[0].equals(Messages.PLAYER_LEFT)) {
             Main.client.send(Messages.LEAVE);
 
             //Leave room and go back to match screen play menu background music
@@ -396,12 +359,12 @@ public class MultiPlayerGameScreen implements Screen, InputProcessor, HandleMess
 
         } else if (parts[0].equals(Messages.PIECE)) {
             String json = msg.substring(Messages.PIECE.length() + Messages.SEPARATOR.length());
-            Tetromino piece = Tetromino.fromDTO(new Gson().fromJson(json, TetrominoDTO.class));
+            Tetromino piece = Tetromino.fromDTO(gson.fromJson(json, TetrominoDTO.class));
             player.getBoard().handleSpawn(piece);
 
         } else if (parts[0].equals(Messages.NEXT_PIECE)) {
             String json = msg.substring(Messages.NEXT_PIECE.length() + Messages.SEPARATOR.length());
-            Tetromino piece = Tetromino.fromDTO(new Gson().fromJson(json, TetrominoDTO.class));
+            Tetromino piece = Tetromino.fromDTO(gson.fromJson(json, TetrominoDTO.class));
             player.getBoard().setNextRunningPiece(piece);
 
         } else if (parts[0].equals(Messages.LOCK_PLAYER)) {
@@ -430,6 +393,45 @@ public class MultiPlayerGameScreen implements Screen, InputProcessor, HandleMess
         }
     }
 
+    @Override
+    public void HandleGameState(GameStateDTO state) {
+        if (!state.roomId.equals(this.roomId)) return;
+        if (state.ownBoard) {
+            restoreOwnBoard(state);
+            return;
+        }
+        GameStateDTO dto = stateSync.receive(state);
+        if (dto == null) return;
+
+        opponentBoard.setGrid(dto.player.grid);
+        TetrominoDTO tetrominoDTO = dto.player.currentPiece;
+        opponentBoard.setCurrentRunningPiece(tetrominoDTO != null ? Tetromino.fromDTO(tetrominoDTO) : null);
+
+        tetrominoDTO = dto.player.nextPiece;
+        opponentBoard.setNextRunningPiece(tetrominoDTO != null ? Tetromino.fromDTO(tetrominoDTO) : null);
+
+        if (authoritative) {
+            healthBar.setPivot(dto.player.health); // already from our side of the bar
+        } else if (isOwner) {
+            float opponentDamage = dto.player.health;
+            healthBar.setPivot(healthBar.getPivot() - opponentDamage);
+        } else {
+            if (healthBar.getLastScore() != 0f) return;
+            float opponentPivot = dto.player.health;
+            healthBar.setPivot(100 - opponentPivot);
+        }
+    }
+
+    // Moves are shown as soon as they are made; the server's copy replaces ours once it has applied them all
+    private void restoreOwnBoard(GameStateDTO state) {
+        if (!authoritative || state.lastReceivedAck < inputSeq) return;
+        PlayerState own = state.player;
+        player.getBoard().restore(own.grid,
+            own.currentPiece != null ? Tetromino.fromDTO(own.currentPiece) : null,
+            own.nextPiece != null ? Tetromino.fromDTO(own.nextPiece) : null,
+            own.pieceIndex, own.boardFull);
+    }
+
     private void showPopup(String message) {
         showPopup(message, "OK", null);
     }
@@ -450,11 +452,19 @@ public class MultiPlayerGameScreen implements Screen, InputProcessor, HandleMess
     }
 
     @Override public boolean keyDown(int keycode) {
-        if (keycode == Input.Keys.LEFT && !player.isBeingLocked()) player.movePiece(-1);
-        else if (keycode == Input.Keys.RIGHT && !player.isBeingLocked()) player.movePiece(1);
-        else if (keycode == Input.Keys.DOWN) player.dropPiece();
-        else if (keycode == Input.Keys.UP) player.rotatePiece();
-        else if (keycode == Input.Keys.SPACE) {
+        if (keycode == Input.Keys.LEFT && !player.isBeingLocked()) {
+            sendInput(Messages.INPUT_LEFT);
+            player.movePiece(-1);
+        } else if (keycode == Input.Keys.RIGHT && !player.isBeingLocked()) {
+            sendInput(Messages.INPUT_RIGHT);
+            player.movePiece(1);
+        } else if (keycode == Input.Keys.DOWN) {
+            sendInput(Messages.INPUT_DROP);
+            player.dropPiece();
+        } else if (keycode == Input.Keys.UP) {
+            sendInput(Messages.INPUT_ROTATE);
+            player.rotatePiece();
+        } else if (keycode == Input.Keys.SPACE) {
             Skill speedBoostSkill = skillNames.get(SpeedBoostSkill.getStaticName());
             if (speedBoostSkill != null)
             {
@@ -480,13 +490,17 @@ public class MultiPlayerGameScreen implements Screen, InputProcessor, HandleMess
         AudioManager.getInstance().stopMusic();
         AudioManager.getInstance().playMusic("game_bg", true);
     }
-    @Override public void hide() {}
+    // Never shown again; dispose once the frame that replaced it has finished
+    @Override public void hide() {
+        Gdx.app.postRunnable(this::dispose);
+    }
     @Override public void pause() {}
     @Override public void resume() {}
     @Override public void dispose() {
+        player.dispose();
+        opponentLayer.dispose();
         batch.dispose();
         shapeRenderer.dispose();
         stage.dispose();
-        skin.dispose();
     }
 }
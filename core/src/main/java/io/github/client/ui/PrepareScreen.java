@@ -7,6 +7,7 @@ import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
+import io.github.logic.tetris_battle.board.TetrominoSpawner;
 import io.github.logic.tetris_battle.score.HealthBar;
 import io.github.logic.tetris_battle.skill.ExtraPointsSkill;
 import io.github.logic.tetris_battle.skill.LockOpponentSkill;
@@ -293,8 +294,10 @@ public class PrepareScreen extends ScreenAdapter implements HandleMessageScreen
             else
                 ready1Label.setText("Not Ready");
         } else if (parts[0].equals(Messages.GAME_START)) {
+            // game_start:<roomId>:<seed>, older servers send no seed and pieces are requested instead
+            TetrominoSpawner spawner = parts.length > 2 ? new TetrominoSpawner(Long.parseLong(parts[2])) : null;
             Gdx.app.postRunnable(() -> {
-                main.setScreen(new MultiPlayerGameScreen(main, new HealthBar(), roomId, isOwner, selectedSkills));
+                main.setScreen(new MultiPlayerGameScreen(main, new HealthBar(), roomId, isOwner, selectedSkills, spawner));
             });
         } else if (parts[0].equals(Messages.PLAYER_LEFT)) {
             Main.client.send(Messages.LEAVE);
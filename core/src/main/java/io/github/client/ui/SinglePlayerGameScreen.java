@@ -9,10 +9,15 @@ import com.badlogic.gdx.scenes.scene2d.*;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.utils.TimeUtils;
+import io.github.client.BoardRenderer;
+import io.github.client.RenderStats;
+import io.github.client.ScreenPanels;
+import io.github.client.ClientBoardListener;
 import io.github.logic.tetris_battle.Player;
 import io.github.logic.tetris_battle.board.Board;
 import io.github.logic.tetris_battle.board.Tetromino;
 import io.github.logic.tetris_battle.board.TetrominoSpawner;
+import io.github.logic.tetris_battle.helper.FixedTimestep;
 import io.github.logic.utils.*;
 
 public class SinglePlayerGameScreen implements Screen, InputProcessor {
@@ -25,12 +30,14 @@ public class SinglePlayerGameScreen implements Screen, InputProcessor {
 
     private long startTime;
     private long endTime;
-    private long lastAutoDropTime;
+    private float autoDropTimer = 0f; // milliseconds of simulated time since the last auto drop
     private float durationSeconds;
 
     private int score;
     private float dropInterval = 1000; // milliseconds
 
+    private final FixedTimestep timestep = new FixedTimestep();
+
     private ShapeRenderer shapeRenderer;
     private SpriteBatch batch;
 
@@ -39,8 +46,13 @@ public class SinglePlayerGameScreen implements Screen, InputProcessor {
 
     private Label nextPieceLabel;
     private Label scoreLabel;
+    private LabelText scoreText;
     private TextButton leaveRoomBtn;
 
+    private final int previewXPos = (int) ((COLS * SIZE) / 2 - 0.5f * SIZE);
+    private final int previewYPos = ROWS * SIZE - 3 * SIZE;
+    private final ScreenPanels panels = new ScreenPanels();
+
     public SinglePlayerGameScreen(Main main, TetrominoSpawner spawner) {
         this.main = main;
 
@@ -48,6 +60,7 @@ public class SinglePlayerGameScreen implements Screen, InputProcessor {
         batch = new SpriteBatch();
 
         player = new Player(new Board(ROWS, COLS, Side.LEFT, spawner, null, null));
+        player.getBoard().setListener(ClientBoardListener.getInstance());
 
         stage = new Stage();
         skin = UIFactory.getSkin();
@@ -62,12 +75,20 @@ public class SinglePlayerGameScreen implements Screen, InputProcessor {
     }
 
     private void setupUI() {
-        Tetromino.loadAssets();
+        BoardRenderer.loadAssets();
+
+        int previewWidth = SIZE * 6;
+        int previewHeight = SIZE * 5;
+        panels.add(startPos, SIZE, SIZE * COLS, SIZE * ROWS);
+        panels.add(previewXPos - previewWidth / 4f, previewYPos - previewHeight / 4f, previewWidth, previewHeight);
 
         nextPieceLabel = UIFactory.createLabel("NEXT PIECE");
+        nextPieceLabel.setPosition(previewXPos, previewYPos + previewHeight - SIZE);
+        stage.addActor(nextPieceLabel);
 
         scoreLabel = UIFactory.createTitle("Score: 0");
         scoreLabel.setPosition(startPos, SIZE * ROWS + SIZE * 1.5f);
+        scoreText = new LabelText(scoreLabel);
 
         stage.addActor(scoreLabel);
 
@@ -79,6 +100,8 @@ public class SinglePlayerGameScreen implements Screen, InputProcessor {
                 main.setScreen(new MatchScreen(main));
             }
         });
+        leaveRoomBtn.setPosition(startPos + COLS * SIZE + 20, SIZE * ROWS + SIZE * 1.5f);
+        leaveRoomBtn.setColor(Color.RED);
         stage.addActor(leaveRoomBtn);
     }
 
@@ -94,17 +117,21 @@ public class SinglePlayerGameScreen implements Screen, InputProcessor {
     public void render(float delta) {
         if (stage == null) return;
 
-        updateAutoDrop();
+        int steps = timestep.advance(delta);
+        for (int i = 0; i < steps; i++) {
+            updateAutoDrop(timestep.getStep());
+            player.update(timestep.getStep());
+        }
         checkEndGame();
-        player.update(delta);
 
+        RenderStats.getInstance().beginRender();
         clearScreen();
         stage.act(Gdx.graphics.getDeltaTime());
 
-        drawBoard();
-        drawNextPiecePreview();
+        drawBoardAndPreview();
         updateScoreDisplay();
         stage.draw();
+        RenderStats.getInstance().draw(batch, 1); // one flush per board, each board's cache ends the batch
     }
 
     private void clearScreen() {
@@ -112,60 +139,34 @@ public class SinglePlayerGameScreen implements Screen, InputProcessor {
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
     }
 
-    private void drawBoard() {
+    // Filled shapes, then sprites, then lines, so each renderer is flushed once per frame
+    private void drawBoardAndPreview() {
         shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-        shapeRenderer.setColor(Color.BLACK);
-        shapeRenderer.rect(startPos, SIZE, SIZE * COLS, SIZE * ROWS);
+        panels.drawFills(shapeRenderer);
         shapeRenderer.end();
 
         batch.begin();
-        player.drawBoard(batch, startPos, SIZE);
+        // Both the board's gravity and the auto drop pull the piece down, whichever is due first
+        float gravityProgress = Math.max(player.getBoard().getGravityProgress(), autoDropTimer / dropInterval);
+        player.drawBoard(batch, startPos, SIZE, gravityProgress);
+        Tetromino nextPiece = player.getNextTetromino();
+        if (nextPiece != null) {
+            BoardRenderer.drawPiece(nextPiece, batch, previewXPos, previewYPos, ROWS);
+        }
         batch.end();
 
         shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
-        shapeRenderer.setColor(Color.WHITE);
-        shapeRenderer.rect(startPos, SIZE, SIZE * COLS, SIZE * ROWS);
-        shapeRenderer.end();
-    }
-
-    private void drawNextPiecePreview() {
-        int previewXPos = (int) ((COLS * SIZE) / 2 - 0.5f * SIZE);
-        int previewYPos = ROWS * SIZE - 3 * SIZE;
-        int previewWidth = SIZE * 6;
-        int previewHeight = SIZE * 5;
-
-        nextPieceLabel.setPosition(previewXPos, previewYPos + previewHeight - SIZE);
-        stage.addActor(nextPieceLabel);
-
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-        shapeRenderer.setColor(Color.BLACK);
-        shapeRenderer.rect(previewXPos - previewWidth / 4f, previewYPos - previewHeight / 4f, previewWidth, previewHeight);
-        shapeRenderer.end();
-
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
-        shapeRenderer.setColor(Color.WHITE);
-        shapeRenderer.rect(previewXPos - previewWidth / 4f, previewYPos - previewHeight / 4f, previewWidth, previewHeight);
+        panels.drawBorders(shapeRenderer);
         shapeRenderer.end();
-
-        Tetromino nextPiece = player.getNextTetromino();
-        if (nextPiece != null) {
-            batch.begin();
-            nextPiece.draw(batch, previewXPos, previewYPos, ROWS);
-            batch.end();
-        }
     }
 
     private void updateScoreDisplay() {
         score = player.getScore();
-        scoreLabel.setText("Score: " + score);
-
-        leaveRoomBtn.setPosition(startPos + COLS * SIZE + 20, SIZE * ROWS + SIZE * 1.5f);
-        leaveRoomBtn.setColor(Color.RED);
+        scoreText.set("Score: ", score, "");
     }
 
-    private void updateAutoDrop() {
-        long now = TimeUtils.millis();
-        long elapsed = now - lastAutoDropTime;
+    private void updateAutoDrop(float step) {
+        autoDropTimer += step * 1000f;
 
         int score = player.getScore(); // Assumes player exposes score
 
@@ -178,9 +179,9 @@ public class SinglePlayerGameScreen implements Screen, InputProcessor {
         // Exponential decay based on score
         dropInterval = minInterval + (maxInterval - minInterval) * (float) Math.exp(-decayRate * scoreFactor);
 
-        if (elapsed >= dropInterval) {
+        if (autoDropTimer >= dropInterval) {
             player.dropPiece(); // Auto-drop
-            lastAutoDropTime = now;
+            autoDropTimer -= dropInterval;
         }
     }
 
@@ -207,20 +208,23 @@ public class SinglePlayerGameScreen implements Screen, InputProcessor {
 
     @Override public void show() {
         startTime = TimeUtils.millis();
-        lastAutoDropTime = startTime;
+        autoDropTimer = 0f;
 
         AudioManager.getInstance().stopMusic();
         AudioManager.getInstance().playMusic("game_bg", true);
     }
 
-    @Override public void hide() {}
+    // Replaced from inside render(), so free the GL resources once the frame is over
+    @Override public void hide() {
+        Gdx.app.postRunnable(this::dispose);
+    }
     @Override public void pause() {}
     @Override public void resume() {}
 
     @Override public void dispose() {
+        player.dispose();
         batch.dispose();
         shapeRenderer.dispose();
         stage.dispose();
-        skin.dispose();
     }
 }
@@ -9,15 +9,24 @@ import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.utils.TimeUtils;
+import io.github.client.BoardRenderer;
+import io.github.client.RenderStats;
+import io.github.client.ScreenPanels;
+import io.github.client.ClientBoardListener;
+import io.github.client.ClientSkillListener;
+import io.github.client.HealthBarRenderer;
 import io.github.client.ui.EndGameScreen;
 import io.github.logic.tetris_battle.board.Tetromino;
 import io.github.logic.tetris_battle.board.TetrominoSpawner;
+import io.github.logic.tetris_battle.helper.FixedTimestep;
 import io.github.logic.tetris_battle.score.HealthBar;
 import io.github.logic.tetris_battle.skill.ExtraPointsSkill;
 import io.github.logic.tetris_battle.skill.LockOpponentSkill;
 import io.github.logic.tetris_battle.skill.SpeedBoostSkill;
 import io.github.client.ui.HandleMessageScreen;
 import io.github.client.ui.Main;
+import io.github.logic.utils.Assets;
+import io.github.logic.utils.LabelText;
 import io.github.logic.utils.Side;
 
 public class GameScreen implements Screen, InputProcessor, HandleMessageScreen {
@@ -36,8 +45,18 @@ public class GameScreen implements Screen, InputProcessor, HandleMessageScreen {
     private final int startPos = SIZE * 3;
     private final int spaceBetween2Boards = SIZE * 2;
 
+    // Next piece previews above the boards, and the health bar above them
+    private final int leftPreviewXPos = (int) ((float) (COLS * SIZE) / 2 - 0.5f * SIZE);
+    private final int rightPreviewXPos = (int) ((float) (COLS * SIZE * 3) / 2 + 5.5f * SIZE);
+    private final int previewYPos = ROWS * SIZE + 3 * SIZE;
+    private final int previewWidth = SIZE * 6;
+    private final int previewHeight = SIZE * 5;
+    private final int healthBarPosY = previewYPos + previewHeight + SIZE;
+    private final ScreenPanels panels = new ScreenPanels();
+
     private ShapeRenderer shapeRenderer;
     private SpriteBatch batch;
+    private final FixedTimestep timestep = new FixedTimestep();
 
     private Skin skin;
     private Stage stage;
@@ -50,6 +69,9 @@ public class GameScreen implements Screen, InputProcessor, HandleMessageScreen {
     private TextButton extraPointBtn;
     private TextButton lockOpponentBtn;
     private TextButton speedBoostBtn;
+    private LabelText extraPointText;
+    private LabelText lockOpponentText;
+    private LabelText speedBoostText;
 
     private ExtraPointsSkill activeExtraPointSkill;
     private LockOpponentSkill activeLockOpponentSkill;
@@ -65,12 +87,14 @@ public class GameScreen implements Screen, InputProcessor, HandleMessageScreen {
         this.healthBar = healthBar;
         player1 = new Player(spawner, healthBar, "", Side.LEFT);
         player2 = new Player(spawner, healthBar, "", Side.RIGHT);
+        player1.getBoard().setListener(ClientBoardListener.getInstance());
+        player2.getBoard().setListener(ClientBoardListener.getInstance());
         this.healthBar.setWidth(COLS * SIZE * 2 + spaceBetween2Boards);
 
-        Tetromino.loadAssets();
+        BoardRenderer.loadAssets();
 
         stage = new Stage();
-        skin = new Skin(Gdx.files.internal("assets\\uiskin.json"));
+        skin = Assets.getInstance().acquire(Assets.GAME_SKIN, Skin.class);
 
         InputMultiplexer multiplexer = new InputMultiplexer();
         multiplexer.addProcessor(stage);
@@ -86,6 +110,9 @@ public class GameScreen implements Screen, InputProcessor, HandleMessageScreen {
         extraPointBtn = new TextButton("X2", skin);
         lockOpponentBtn = new TextButton("Lock Opponent", skin);
         speedBoostBtn = new TextButton("Speed Boost", skin);
+        extraPointText = new LabelText(extraPointBtn.getLabel());
+        lockOpponentText = new LabelText(lockOpponentBtn.getLabel());
+        speedBoostText = new LabelText(speedBoostBtn.getLabel());
 
         extraPointBtn.addListener(new ClickListener() {
             @Override
@@ -93,6 +120,7 @@ public class GameScreen implements Screen, InputProcessor, HandleMessageScreen {
                 if (extraPointBtn.isDisabled())
                     return;
                 activeExtraPointSkill = new ExtraPointsSkill(player1.getScoreManager(), 90);
+                activeExtraPointSkill.setListener(ClientSkillListener.getInstance());
                 player1.useSkill(activeExtraPointSkill);
             }
         });
@@ -103,6 +131,7 @@ public class GameScreen implements Screen, InputProcessor, HandleMessageScreen {
                 if (lockOpponentBtn.isDisabled())
                     return;
                 activeLockOpponentSkill = new LockOpponentSkill(player2, 10f);
+                activeLockOpponentSkill.setListener(ClientSkillListener.getInstance());
                 player1.useSkill(activeLockOpponentSkill);
             }
         });
@@ -113,9 +142,12 @@ public class GameScreen implements Screen, InputProcessor, HandleMessageScreen {
                 if (speedBoostBtn.isDisabled())
                     return;
                 activeSpeedBoostSkill = new SpeedBoostSkill(player1, 30f); // 30s cooldown
+                activeSpeedBoostSkill.setListener(ClientSkillListener.getInstance());
                 player1.useSkill(activeSpeedBoostSkill);
             }
         });
+
+        layoutActors();
     }
 
     private void checkEndGame() {
@@ -129,222 +161,157 @@ public class GameScreen implements Screen, InputProcessor, HandleMessageScreen {
         }
     }
 
+    // One fixed simulation step: both boards and every running skill
+    private void tick(float step) {
+        player1.update(step);
+        player2.update(step);
+        if (activeExtraPointSkill != null) {
+            activeExtraPointSkill.update(step);
+        }
+        if (activeLockOpponentSkill != null) {
+            activeLockOpponentSkill.update(step);
+        }
+        if (activeSpeedBoostSkill != null) {
+            activeSpeedBoostSkill.update(step);
+        }
+    }
+
     @Override
     public void render(float delta) {
         checkEndGame();
-        player1.update(delta);
-        player2.update(delta);
+        int steps = timestep.advance(delta);
+        for (int i = 0; i < steps; i++) {
+            tick(timestep.getStep());
+        }
 
+        RenderStats.getInstance().beginRender();
         // Clear the screen
         Gdx.gl.glClearColor((float) 120/ 255, (float) 193 / 255, (float) 194 /255, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
+        updateSkillButtons();
         stage.act(Gdx.graphics.getDeltaTime());
         stage.draw();
 
-        //Draw background
+        // Filled shapes, then sprites, then lines, so each renderer is flushed once per frame
         shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-        shapeRenderer.setColor(0, 0, 0, 1);
-        shapeRenderer.rect(startPos, SIZE, SIZE * COLS, SIZE * ROWS);
-        shapeRenderer.rect(startPos + COLS * SIZE + spaceBetween2Boards, SIZE, SIZE * COLS, SIZE * ROWS);
+        panels.drawFills(shapeRenderer);
+        HealthBarRenderer.draw(healthBar, shapeRenderer, startPos, healthBarPosY);
         shapeRenderer.end();
 
-        //Draw boards
         batch.begin();
-        player1.drawBoard(batch, startPos, SIZE);
-        player2.drawBoard(batch,startPos + COLS * SIZE + spaceBetween2Boards, SIZE);
-        batch.end();
-
-        // Draw borders
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
-        // Set border color
-        shapeRenderer.setColor(1, 1, 1, 1); // white border
-
-        // Draw left board border
-        shapeRenderer.rect(
-            startPos,                       // x
-            SIZE,                       // y
-            COLS * SIZE,                // width
-            ROWS * SIZE                 // height
-        );
-
-        // Draw right board border
-        shapeRenderer.rect(
-            startPos + COLS * SIZE + spaceBetween2Boards,   // x (space between boards = SIZE)
-            SIZE,                        // y
-            COLS * SIZE,                 // width
-            ROWS * SIZE                  // height
-        );
-
-        shapeRenderer.end();
-
-
-        // Draw Left Preview Tetromino
+        player1.drawBoard(batch, startPos, SIZE, player1.getBoard().getGravityProgress());
+        player2.drawBoard(batch,startPos + COLS * SIZE + spaceBetween2Boards, SIZE, player2.getBoard().getGravityProgress());
         Tetromino board1NextPiece = player1.getNextTetromino();
-        Tetromino board2NextPiece = player2.getNextTetromino();
-
-        int leftPreviewXPos = (int) ((float) (COLS * SIZE) / 2 - 0.5f * SIZE);
-        int leftPreviewYPos = ROWS * SIZE + 3 * SIZE; // Above the board
-        int leftPreviewWidth = SIZE * 6;
-        int leftPreviewHeight = SIZE * 5;
-
-        //Left Next Piece label
-        leftNextPieceLabel.setPosition(leftPreviewXPos, leftPreviewYPos + leftPreviewHeight - SIZE);
-        stage.addActor(leftNextPieceLabel);
-
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
-        // Draw right preview's border
-        shapeRenderer.setColor(1, 1, 1, 1); // white border
-        shapeRenderer.rect(leftPreviewXPos - (float) leftPreviewWidth / 4, leftPreviewYPos - (float) leftPreviewHeight / 4, leftPreviewWidth + 0.5f, leftPreviewHeight + 0.5f);
-        shapeRenderer.end();
-
-        //Draw left preview's background
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-        shapeRenderer.setColor(0, 0, 0, 1);
-        shapeRenderer.rect(leftPreviewXPos - (float) leftPreviewWidth / 4, leftPreviewYPos - (float) leftPreviewHeight / 4, leftPreviewWidth, leftPreviewHeight);
-        shapeRenderer.end();
-
         if (board1NextPiece != null) {
-            // Draw the next tetromino
-            batch.begin();
-            board1NextPiece.draw(batch, leftPreviewXPos, leftPreviewYPos, ROWS);
-            batch.end();
+            BoardRenderer.drawPiece(board1NextPiece, batch, leftPreviewXPos, previewYPos, ROWS);
         }
-
-        // Draw Right Preview Tetromino
-        int rightPreviewXPos = (int) ((float) (COLS * SIZE * 3) / 2 + 5.5f * SIZE);
-        int rightPreviewYPos = ROWS * SIZE + 3 * SIZE; // Above the board
-        int rightPreviewWidth = SIZE * 6;
-        int rightPreviewHeight = SIZE * 5;
-
-        // Right next piece label
-        rightNextPieceLabel.setPosition(rightPreviewXPos, leftPreviewYPos + leftPreviewHeight - SIZE);
-        stage.addActor(rightNextPieceLabel);
+        Tetromino board2NextPiece = player2.getNextTetromino();
+        if (board2NextPiece != null) {
+            BoardRenderer.drawPiece(board2NextPiece, batch, rightPreviewXPos, previewYPos, ROWS);
+        }
+        batch.end();
 
         shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
-        // Draw right preview's  border
-        shapeRenderer.setColor(1, 1, 1, 1); // white border
-        shapeRenderer.rect(rightPreviewXPos - (float) rightPreviewWidth /4, rightPreviewYPos - (float) rightPreviewHeight / 4, rightPreviewWidth + 0.5f, rightPreviewHeight + 0.5f);
-        shapeRenderer.end();
-
-        //Draw right preview's background
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-        shapeRenderer.setColor(0, 0, 0, 1);
-        shapeRenderer.rect(rightPreviewXPos - (float) rightPreviewWidth / 4, rightPreviewYPos - (float) rightPreviewHeight / 4, rightPreviewWidth, rightPreviewHeight);
+        panels.drawBorders(shapeRenderer);
         shapeRenderer.end();
 
-        if (board2NextPiece != null) {
-            // Draw the next tetromino
-            batch.begin();
-            board2NextPiece.draw(batch, rightPreviewXPos, rightPreviewYPos, ROWS);
-            batch.end();
+        RenderStats.getInstance().draw(batch, 2); // one flush per board, each board's cache ends the batch
+    }
 
-            if (Gdx.app != null) {
-                //Gdx.app.log("GameScreen", "nextPiece (board 2): " + board2NextPiece.getType());
-            }
-        }
+    // Positions only depend on the board size, so the actors and panels are placed once
+    private void layoutActors() {
+        panels.add(startPos, SIZE, SIZE * COLS, SIZE * ROWS);
+        panels.add(startPos + COLS * SIZE + spaceBetween2Boards, SIZE, SIZE * COLS, SIZE * ROWS);
+        panels.add(leftPreviewXPos - (float) previewWidth / 4, previewYPos - (float) previewHeight / 4, previewWidth, previewHeight);
+        panels.add(rightPreviewXPos - (float) previewWidth / 4, previewYPos - (float) previewHeight / 4, previewWidth, previewHeight);
 
-        //Draw health bar
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-        int maxHeight = Math.max(leftPreviewYPos + leftPreviewHeight + SIZE,
-            rightPreviewYPos + rightPreviewHeight + SIZE);
-        healthBar.draw(shapeRenderer, startPos, maxHeight);
-        shapeRenderer.end();
+        leftNextPieceLabel.setPosition(leftPreviewXPos, previewYPos + previewHeight - SIZE);
+        stage.addActor(leftNextPieceLabel);
+        rightNextPieceLabel.setPosition(rightPreviewXPos, previewYPos + previewHeight - SIZE);
+        stage.addActor(rightNextPieceLabel);
 
-        //Draw leave room button
-        leaveRoomBtn.setPosition( startPos + healthBar.getWidth() + 0.5f * SIZE, maxHeight);
+        leaveRoomBtn.setPosition(startPos + healthBar.getWidth() + 0.5f * SIZE, healthBarPosY);
         stage.addActor(leaveRoomBtn);
 
-        // Skill Btns
-
-        // extraPointBtn
+        // Skill buttons, stacked beside the left preview
         extraPointBtn.setSize(60, 30);
-
         extraPointBtn.setPosition(
-            leftPreviewXPos + leftPreviewWidth - SIZE,
-            leftPreviewYPos + leftPreviewHeight / 2 - extraPointBtn.getHeight() / 2
+            leftPreviewXPos + previewWidth - SIZE,
+            previewYPos + previewHeight / 2 - extraPointBtn.getHeight() / 2
         );
         stage.addActor(extraPointBtn);
 
+        lockOpponentBtn.setSize(190, 30);
+        lockOpponentBtn.setPosition(
+            leftPreviewXPos + previewWidth - SIZE,
+            previewYPos + previewHeight / 2 - extraPointBtn.getHeight() - lockOpponentBtn.getHeight()
+        );
+        stage.addActor(lockOpponentBtn);
+
+        speedBoostBtn.setSize(190, 30);
+        speedBoostBtn.setPosition(
+            leftPreviewXPos + previewWidth - SIZE,
+            previewYPos + previewHeight / 2 - extraPointBtn.getHeight() - lockOpponentBtn.getHeight() - speedBoostBtn.getHeight()
+        );
+        stage.addActor(speedBoostBtn);
+    }
+
+    private void updateSkillButtons() {
         // Skill duration
         if (activeExtraPointSkill != null) {
-            activeExtraPointSkill.update(delta);
             if (activeExtraPointSkill.isActive()) {
                 extraPointBtn.setDisabled(true);
                 int secondsLeft = (int) Math.ceil(activeExtraPointSkill.getCurrentCooldown());
-                extraPointBtn.setText("X2 (" + secondsLeft + ")");
+                extraPointText.set("X2 (", secondsLeft, ")");
             } else if (!activeExtraPointSkill.canActivate()) {
                 extraPointBtn.setDisabled(true);
                 int secondsLeft = (int) Math.ceil(activeExtraPointSkill.getCurrentCooldown());
-                extraPointBtn.setText("X (" + secondsLeft + ")");
+                extraPointText.set("X (", secondsLeft, ")");
             } else {
                 extraPointBtn.setDisabled(false);
-                extraPointBtn.setText("X2");
+                extraPointText.set("X2");
             }
         }
 
-
-        // Lock opponent Skill Button
-
-        lockOpponentBtn.setSize(190, 30);
-
-        lockOpponentBtn.setPosition(
-            leftPreviewXPos + leftPreviewWidth - SIZE,
-            leftPreviewYPos + leftPreviewHeight / 2 - extraPointBtn.getHeight() - lockOpponentBtn.getHeight()
-        );
-        stage.addActor(lockOpponentBtn);
-
-        // Skill duration
         if (activeLockOpponentSkill != null) {
-            activeLockOpponentSkill.update(delta);
             if (activeLockOpponentSkill.isActive()) // Skill is activating
             {
                 lockOpponentBtn.setDisabled(true);
-                lockOpponentBtn.setText("Lock Opponent is active");
+                lockOpponentText.set("Lock Opponent is active");
             }
             else if (!activeLockOpponentSkill.canActivate()) // Skill can't be activated
             {
                 lockOpponentBtn.setDisabled(true);
                 int secondsLeft = (int) Math.ceil(activeLockOpponentSkill.getCurrentCooldown());
-                lockOpponentBtn.setText("Lock Opponent (" + secondsLeft + ")");
+                lockOpponentText.set("Lock Opponent (", secondsLeft, ")");
             }
             else // Skill can be activated
             {
                 lockOpponentBtn.setDisabled(false);
-                lockOpponentBtn.setText("Lock Opponent");
+                lockOpponentText.set("Lock Opponent");
             }
         }
 
-        //speedBoostBtn
-        speedBoostBtn.setSize(190, 30);
-
-        speedBoostBtn.setPosition(
-            leftPreviewXPos + leftPreviewWidth - SIZE,
-            leftPreviewYPos + leftPreviewHeight / 2 - extraPointBtn.getHeight() - lockOpponentBtn.getHeight() - speedBoostBtn.getHeight()
-        );
-        stage.addActor(speedBoostBtn);
-
-        // Skill duration
-if (activeSpeedBoostSkill != null) {
-    activeSpeedBoostSkill.update(delta);
-    if (activeSpeedBoostSkill.isActive()) // Skill is activating
-    {
-        speedBoostBtn.setDisabled(true);
-        int secondsLeft = (int) Math.ceil(activeSpeedBoostSkill.getRemainingActiveTime());
-        speedBoostBtn.setText("Press SPACE (" + secondsLeft + "s)");
-    }
-    else if (!activeSpeedBoostSkill.canActivate()) // Skill can't be activated (on cooldown)
-    {
-        speedBoostBtn.setDisabled(true);
-        int secondsLeft = (int) Math.ceil(activeSpeedBoostSkill.getCurrentCooldown());
-        speedBoostBtn.setText("Speed Boost (" + secondsLeft + "s)");
-    }
-    else // Skill can be activated
-    {
-        speedBoostBtn.setDisabled(false);
-        speedBoostBtn.setText("Speed Boost");
-    }
-}
+        if (activeSpeedBoostSkill != null) {
+            if (activeSpeedBoostSkill.isActive()) // Skill is activating
+            {
+                speedBoostBtn.setDisabled(true);
+                int secondsLeft = (int) Math.ceil(activeSpeedBoostSkill.getRemainingActiveTime());
+                speedBoostText.set("Press SPACE (", secondsLeft, "s)");
+            }
+            else if (!activeSpeedBoostSkill.canActivate()) // Skill can't be activated (on cooldown)
+            {
+                speedBoostBtn.setDisabled(true);
+                int secondsLeft = (int) Math.ceil(activeSpeedBoostSkill.getCurrentCooldown());
+                speedBoostText.set("Speed Boost (", secondsLeft, "s)");
+            }
+            else // Skill can be activated
+            {
+                speedBoostBtn.setDisabled(false);
+                speedBoostText.set("Speed Boost");
+            }
+        }
     }
 
 
@@ -403,8 +370,11 @@ if (activeSpeedBoostSkill != null) {
         startTime = TimeUtils.millis();
     }
 
+    // Replaced from inside render(), so dispose after the current frame
     @Override
-    public void hide() {}
+    public void hide() {
+        Gdx.app.postRunnable(this::dispose);
+    }
 
     @Override
     public void pause() {}
@@ -414,10 +384,12 @@ if (activeSpeedBoostSkill != null) {
 
     @Override
     public void dispose() {
+        player1.dispose();
+        player2.dispose();
         batch.dispose();
         shapeRenderer.dispose();
         stage.dispose();
-        skin.dispose();
+        Assets.getInstance().release(Assets.GAME_SKIN);
     }
 
     @Override
@@ -1,6 +1,9 @@
 package io.github.logic.tetris_battle;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import io.github.client.BoardLayer;
+import io.github.client.BoardRenderer;
+import io.github.client.PieceInterpolation;
 import io.github.logic.tetris_battle.board.Board;
 import io.github.logic.tetris_battle.board.Tetromino;
 import io.github.logic.tetris_battle.board.TetrominoSpawner;
@@ -14,6 +17,7 @@ public class Player {
     private String name;
     private int score;
     private Board board;
+    private final BoardLayer boardLayer = new BoardLayer();
 
     private boolean isBeingLocked = false;
 
@@ -77,10 +81,16 @@ public class Player {
 
     public void update(float delta) {
         board.update(delta);
+        board.dispatchEvents();
     }
 
     public void drawBoard(SpriteBatch batch, int posX, int posY) {
-        board.draw(batch, posX, posY);
+        BoardRenderer.drawBoard(board, boardLayer, batch, posX, posY);
+    }
+
+    /** Draws the board with the falling piece {@code gravityProgress} of the way down to the next row. */
+    public void drawBoard(SpriteBatch batch, int posX, int posY, float gravityProgress) {
+        BoardRenderer.drawBoard(board, boardLayer, batch, posX, posY, PieceInterpolation.fallOffset(board, gravityProgress));
     }
 
     public Tetromino getNextTetromino() {
@@ -98,5 +108,10 @@ public class Player {
         board.dropPieceToBottom();
     }
 
+    public void dispose() {
+        board.releaseSpawner();
+        boardLayer.dispose();
+    }
+
 }
 
@@ -2,7 +2,6 @@ package io.github.logic.tetris_battle.skill;
 
 import io.github.logic.tetris_battle.Player;
 import io.github.client.ui.Main;
-import io.github.logic.utils.AudioManager;
 import io.github.logic.utils.Messages;
 import io.github.logic.utils.SkillConfigs;
 
@@ -45,7 +44,7 @@ public class LockOpponentSkill extends Skill {
             active = true;
             activeTimer = getEffectingTime();
             // Play skill activation sound
-            AudioManager.getInstance().playSkillActivate();
+            listener.onSkillActivated(this);
             if (player!= null) {
                 player.setIsBeingLocked(true);
             } else {
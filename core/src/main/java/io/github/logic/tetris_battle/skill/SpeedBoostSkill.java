@@ -2,7 +2,6 @@ package io.github.logic.tetris_battle.skill;
 
 import io.github.logic.tetris_battle.Player;
 import io.github.logic.utils.SkillConfigs;
-import io.github.logic.utils.AudioManager;
 
 public class SpeedBoostSkill extends Skill {
 
@@ -43,7 +42,7 @@ public class SpeedBoostSkill extends Skill {
             active = true;
             activeTimer = getEffectingTime(); // Set timer để đếm ngược
             // Play skill activation sound
-            AudioManager.getInstance().playSkillActivate();
+            listener.onSkillActivated(this);
             // Skill is now active, player can use SPACE to drop pieces quickly
         }
     }
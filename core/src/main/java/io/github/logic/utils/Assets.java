@@ -0,0 +1,78 @@
+package io.github.logic.utils;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+
+/**
+ * The libGDX {@link AssetManager} shared by every screen. Startup assets are queued once and
+ * loaded a slice per frame behind the loading screen. Screens that need an asset of their own
+ * {@link #acquire} it and {@link #release} it when they are disposed; the manager counts
+ * references, so an asset shared by several screens is loaded once and disposed with the last one.
+ */
+public class Assets {
+    public static final String UI_SKIN = "quantum/quantum-horizon-ui.json";
+    public static final String GAME_SKIN = "uiskin.json";
+    public static final String BLOCK_ATLAS = "sprites/blocks.atlas";
+
+    private static final int LOAD_BUDGET_MS = 10;
+
+    private static Assets instance;
+
+    private final AssetManager manager = new AssetManager();
+
+    private Assets() {
+    }
+
+    public static Assets getInstance() {
+        if (instance == null) {
+            instance = new Assets();
+        }
+        return instance;
+    }
+
+    /** Queues what the menus and game screens need; music is streamed on demand instead. */
+    public void queueStartup() {
+        manager.load(UI_SKIN, Skin.class);
+        manager.load(BLOCK_ATLAS, TextureAtlas.class);
+        AudioManager.getInstance().queueSounds(this);
+    }
+
+    public <T> void load(String path, Class<T> type) {
+        manager.load(path, type);
+    }
+
+    /** Loads for at most a few milliseconds. Returns true once everything queued is loaded. */
+    public boolean update() {
+        return manager.update(LOAD_BUDGET_MS);
+    }
+
+    public float getProgress() {
+        return manager.getProgress();
+    }
+
+    public boolean isLoaded(String path) {
+        return manager.isLoaded(path);
+    }
+
+    public <T> T get(String path, Class<T> type) {
+        return manager.get(path, type);
+    }
+
+    /** Takes a reference to the asset, loading it now if no one else has. Pair with {@link #release}. */
+    public <T> T acquire(String path, Class<T> type) {
+        manager.load(path, type);
+        return manager.finishLoadingAsset(path);
+    }
+
+    public void release(String path) {
+        if (manager.isLoaded(path)) {
+            manager.unload(path);
+        }
+    }
+
+    public void dispose() {
+        manager.dispose();
+        instance = null;
+    }
+}
@@ -16,8 +16,10 @@ public class AudioManager {
 
     private static AudioManager instance;
 
+    // Music is opened on first play and streamed; sounds are decoded by the shared AssetManager
+    private Map<String, String> musicPaths;
     private Map<String, Music> musicMap;
-    private Map<String, Sound> soundMap;
+    private Map<String, String> soundPaths;
 
     private Music currentMusic;
     private String currentMusicKey;
@@ -33,8 +35,10 @@ public class AudioManager {
     private boolean sfxMuted = false;
 
     private AudioManager() {
+        musicPaths = new HashMap<>();
         musicMap = new HashMap<>();
-        soundMap = new HashMap<>();
+        soundPaths = new HashMap<>();
+        registerAllAudio();
         
         // Load settings from AudioSettings
         loadSettings();
@@ -73,30 +77,52 @@ public class AudioManager {
         settings.saveSettings();
     }
 
-    public void loadMusic(String key, String filePath) {
-        FileHandle file = Gdx.files.internal(filePath);
-        if (file.exists()) {
-            Music music = Gdx.audio.newMusic(file);
+    public void registerMusic(String key, String filePath) {
+        musicPaths.put(key, filePath);
+    }
+
+    public void registerSound(String key, String filePath) {
+        soundPaths.put(key, filePath);
+    }
+
+    /** Queues every registered sound on the asset manager, they play once loaded. */
+    public void queueSounds(Assets assets) {
+        for (String filePath : soundPaths.values()) {
+            assets.load(filePath, Sound.class);
+        }
+    }
+
+    private Music getMusic(String key) {
+        Music music = musicMap.get(key);
+        if (music == null) {
+            String filePath = musicPaths.get(key);
+            if (filePath == null) {
+                return null;
+            }
+            FileHandle file = Gdx.files.internal(filePath);
+            if (!file.exists()) {
+                Gdx.app.error("AudioManager", "Music file not found: " + filePath);
+                return null;
+            }
+            music = Gdx.audio.newMusic(file);
             musicMap.put(key, music);
-        } else {
-            Gdx.app.error("AudioManager", "Music file not found: " + filePath);
         }
+        return music;
     }
 
-    public void loadSound(String key, String filePath) {
-        FileHandle file = Gdx.files.internal(filePath);
-        if (file.exists()) {
-            Sound sound = Gdx.audio.newSound(file);
-            soundMap.put(key, sound);
-        } else {
-            Gdx.app.error("AudioManager", "Sound file not found: " + filePath);
+    // Null while the sound is still loading
+    private Sound getSound(String key) {
+        String filePath = soundPaths.get(key);
+        if (filePath == null || !Assets.getInstance().isLoaded(filePath)) {
+            return null;
         }
+        return Assets.getInstance().get(filePath, Sound.class);
     }
 
     public void playMusic(String key, boolean loop) {
         if (masterMuted || musicMuted) return;
 
-        Music music = musicMap.get(key);
+        Music music = getMusic(key);
         if (music != null) {
             if (currentMusic != null) currentMusic.stop();
             currentMusic = music;
@@ -116,11 +142,11 @@ public class AudioManager {
     public void playSound(String key, float volumeModifier) {
         if (masterMuted || sfxMuted) return;
 
-        Sound sound = soundMap.get(key);
+        Sound sound = getSound(key);
         if (sound != null) {
             float finalVolume = calculateSfxVolume() * volumeModifier;
             sound.play(finalVolume);
-        } else {
+        } else if (!soundPaths.containsKey(key)) {
             Gdx.app.error("AudioManager", "Sound key not found: " + key);
         }
     }
@@ -159,8 +185,11 @@ public class AudioManager {
     }
 
     public void stopAllSounds() {
-        for (Sound sound : soundMap.values()) {
-            sound.stop();
+        for (String key : soundPaths.keySet()) {
+            Sound sound = getSound(key);
+            if (sound != null) {
+                sound.stop();
+            }
         }
     }
 
@@ -263,20 +292,19 @@ public class AudioManager {
         playMusic("defeat", false);
     }
 
-    // Preload methods
-    public void preloadAllAudio() {
-        // Load music files
-        loadMusic("menu_bg", "audio/menu_background.mp3");
-        loadMusic("game_bg", "audio/game_background.mp3");
-        loadMusic("victory", "audio/victory.mp3");
-        loadMusic("defeat", "audio/defeat.mp3");
+    private void registerAllAudio() {
+        // Music files
+        registerMusic("menu_bg", "audio/menu_background.mp3");
+        registerMusic("game_bg", "audio/game_background.mp3");
+        registerMusic("victory", "audio/victory.mp3");
+        registerMusic("defeat", "audio/defeat.mp3");
         
-        // Load sound effects (using one sound for piece move/rotate)
-        loadSound("piece_move", "audio/piece_move.mp3");
-        loadSound("piece_drop", "audio/piece_drop.mp3");
-        loadSound("line_clear", "audio/line_clear.mp3");
-        loadSound("skill_activate", "audio/skill_activate.mp3");
-        loadSound("button_click", "audio/button_click.mp3");
+        // Sound effects (using one sound for piece move/rotate)
+        registerSound("piece_move", "audio/piece_move.mp3");
+        registerSound("piece_drop", "audio/piece_drop.mp3");
+        registerSound("line_clear", "audio/line_clear.mp3");
+        registerSound("skill_activate", "audio/skill_activate.mp3");
+        registerSound("button_click", "audio/button_click.mp3");
     }
 
     // Check if audio is effectively muted
@@ -299,12 +327,11 @@ public class AudioManager {
         for (Music music : musicMap.values()) {
             music.dispose();
         }
-        for (Sound sound : soundMap.values()) {
-            sound.dispose();
+        for (String filePath : soundPaths.values()) {
+            Assets.getInstance().release(filePath);
         }
         
         musicMap.clear();
-        soundMap.clear();
         currentMusic = null;
         currentMusicKey = null;
     }
@@ -0,0 +1,74 @@
+package io.github.logic.utils;
+
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.utils.StringBuilder;
+
+import java.util.Objects;
+
+/**
+ * Text of a label (or a button's label) written every frame, such as a skill countdown or the
+ * score. The text is built in a reused StringBuilder and handed to the label only when one of
+ * its parts changes, so a countdown re-lays out its label once a second instead of every frame.
+ */
+public class LabelText {
+    private static final int NO_NUMBER = Integer.MIN_VALUE;
+
+    // Label text changes since the last takeUpdates(), shown by the render stats overlay
+    private static int updates;
+
+    private final Label label;
+    private final StringBuilder text = new StringBuilder();
+
+    private String name;
+    private String separator;
+    private int number = NO_NUMBER;
+    private String suffix;
+
+    public LabelText(Label label) {
+        this.label = label;
+    }
+
+    public void set(String text) {
+        set(text, null, NO_NUMBER, null);
+    }
+
+    /** Shows prefix, number and suffix, e.g. ("Score: ", 120, "") or ("X2 (", 5, ")"). */
+    public void set(String prefix, int number, String suffix) {
+        set(prefix, null, number, suffix);
+    }
+
+    /** Like {@link #set(String, int, String)} with a separator after the name, e.g. (skill name, " (", 5, ")"). */
+    public void set(String name, String separator, int number, String suffix) {
+        if (number == this.number && Objects.equals(name, this.name)
+            && Objects.equals(separator, this.separator) && Objects.equals(suffix, this.suffix)) {
+            return;
+        }
+        this.name = name;
+        this.separator = separator;
+        this.number = number;
+        this.suffix = suffix;
+
+        text.setLength(0);
+        text.append(name);
+        if (separator != null) {
+            text.append(separator);
+        }
+        if (number != NO_NUMBER) {
+            text.append(number);
+        }
+        if (suffix != null) {
+            text.append(suffix);
+        }
+        if (!label.textEquals(text)) { // e.g. a button label created with the same text
+            label.setText(text);
+            updates++;
+        }
+    }
+
+    /** Returns how many label texts were changed since the last call and starts counting again. */
+    public static int takeUpdates() {
+        int taken = updates;
+        updates = 0;
+        return taken;
+    }
+}
@@ -6,22 +6,21 @@ import com.badlogic.gdx.scenes.scene2d.ui.*;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 
 public class UIFactory {
-    private static final Skin skin = new Skin(Gdx.files.internal("quantum/quantum-horizon-ui.json"));
 
     public static Label createLabel(String text) {
-        return new Label(text, skin);
+        return new Label(text, getSkin());
     }
 
     public static Label createTitle(String text) {
-        return new Label(text, skin, "title");
+        return new Label(text, getSkin(), "title");
     }
 
     public static TextTooltip createTextTooltip(String text) {
-        return new TextTooltip(text, skin);
+        return new TextTooltip(text, getSkin());
     }
 
     public static TextButton createTextButton(String text, ClickListener listener) {
-        TextButton button = new TextButton(text, skin);
+        TextButton button = new TextButton(text, getSkin());
         button.pad(20);
 
         // Add default click listener that plays sound
@@ -42,7 +41,7 @@ public class UIFactory {
 
     // Alternative method for when you want to control audio manually
     public static TextButton createTextButtonNoAudio(String text, ClickListener listener) {
-        TextButton button = new TextButton(text, skin);
+        TextButton button = new TextButton(text, getSkin());
         button.pad(20);
 
         if (listener != null) {
@@ -52,7 +51,7 @@ public class UIFactory {
     }
 
     public static Dialog createDialog(String title, String message, String action, Runnable onOk) {
-        Dialog dialog = new Dialog(title, skin) {
+        Dialog dialog = new Dialog(title, getSkin()) {
             @Override
             protected void result(Object object) {
                 if (action.equals(object) && onOk != null) {
@@ -66,7 +65,7 @@ public class UIFactory {
         dialog.getTitleLabel().setFontScale(1.2f);
 
         // Message styling
-        Label messageLabel = new Label(message, skin);
+        Label messageLabel = new Label(message, getSkin());
         messageLabel.setWrap(true);
         messageLabel.setFontScale(1.05f);
         messageLabel.setColor(AppColors.SECONDARY_TEXT); // Softer color
@@ -76,7 +75,7 @@ public class UIFactory {
         dialog.getContentTable().row();
 
         // Button styling with audio
-        TextButton button = new TextButton(action, skin);
+        TextButton button = new TextButton(action, getSkin());
         button.getLabel().setColor(AppColors.BUTTON_TEXT);
         button.setColor(AppColors.BUTTON_BG_CYAN);
         
@@ -107,7 +106,8 @@ public class UIFactory {
         return dialog;
     }
 
+    /** The menu skin, loaded by {@link Assets} at startup and shared by every screen. */
     public static Skin getSkin() {
-        return skin;
+        return Assets.getInstance().get(Assets.UI_SKIN, Skin.class);
     }
 }
\ No newline at end of file
@@ -1,54 +0,0 @@
-package io.github.server;
-
-import java.io.IOException;
-import java.net.ServerSocket;
-import java.net.Socket;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-
-public class NetworkManager {
-    private ServerSocket serverSocket;
-    private final ExecutorService clientPool = Executors.newCachedThreadPool();
-    private boolean isRunning = true;
-
-    public void startServer(int port) {
-        try {
-            serverSocket = new ServerSocket(port);
-            System.out.println("Server started on port: " + port);
-
-            while (isRunning) {
-                try {
-                    Socket clientSocket = serverSocket.accept();
-                    System.out.println("Client connected: " + clientSocket.getInetAddress());
-                    clientPool.execute(new PlayerConnection(clientSocket));
-                } catch (IOException e) {
-                    if (isRunning) {
-                        System.err.println("Error accepting client: " + e.getMessage());
-                    }
-                }
-            }
-        } catch (IOException e) {
-            System.err.println("Failed to start server: " + e.getMessage());
-        } finally {
-            stopServer();
-        }
-    }
-
-    public void stopServer() {
-        isRunning = false;
-        try {
-            if (serverSocket != null && !serverSocket.isClosed()) {
-                serverSocket.close();
-                System.out.println("Server stopped.");
-            }
-        } catch (IOException e) {
-            System.err.println("Error closing server: " + e.getMessage());
-        } finally {
-            clientPool.shutdown();
-        }
-    }
-
-    public static void main(String[] args) {
-        new NetworkManager().startServer(5000);
-    }
-}
@@ -0,0 +1,88 @@
+package io.github.client;
+
+import com.badlogic.gdx.Files;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
+import com.badlogic.gdx.utils.Array;
+import io.github.logic.tetris_battle.score.ScoreManager;
+import io.github.logic.tetris_battle.skill.ExtraPointsSkill;
+import io.github.logic.tetris_battle.skill.Skill;
+import io.github.logic.utils.LabelText;
+import io.github.logic.utils.Side;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Proxy;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Runs the skill buttons' per-frame update headless for a number of frames and reports the
+ * bytes allocated per frame. The skills keep cycling through ready, active and cooldown, so
+ * the countdown labels get new text once a second as in a match.
+ */
+public class SkillButtonsAllocationTest {
+    private static final float FRAME = 1 / 60f;
+    private static final int WARMUP_FRAMES = 20_000;
+    private static final int MEASURED_FRAMES = 10_000;
+    // Room for the measuring calls themselves, far below one allocation per frame
+    private static final long ALLOWED_BYTES = 1024;
+
+    @Test
+    public void countdownFramesDoNotAllocate() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        // scene2d tables only look at Gdx.files to reset their cell defaults, no file is read
+        Gdx.files = (Files) Proxy.newProxyInstance(Files.class.getClassLoader(), new Class<?>[] {Files.class},
+            (proxy, method, args) -> null);
+        // A font without glyphs or a texture lays out text without a GL context
+        BitmapFont font = new BitmapFont(new BitmapFont.BitmapFontData(), Array.with(new TextureRegion()), true);
+        TextButton.TextButtonStyle style = new TextButton.TextButtonStyle(null, null, null, font);
+
+        ScoreManager scoreManager = new ScoreManager(Side.LEFT, null);
+        Map<TextButton, Skill> skills = new LinkedHashMap<>();
+        skills.put(new TextButton("Extra Point", style), new ExtraPointsSkill(scoreManager, 7f));
+        skills.put(new TextButton("Extra Point", style), new ExtraPointsSkill(scoreManager, 13f));
+        SkillButtons buttons = new SkillButtons(skills);
+        Skill[] used = skills.values().toArray(new Skill[0]);
+
+        play(buttons, used, WARMUP_FRAMES); // let the JIT settle first
+        LabelText.takeUpdates();
+        long thread = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(thread);
+        play(buttons, used, MEASURED_FRAMES);
+        long allocated = threads.getThreadAllocatedBytes(thread) - before;
+        int labelUpdates = LabelText.takeUpdates();
+
+        System.out.println("skill buttons: " + (double) allocated / MEASURED_FRAMES + " bytes per frame over "
+            + MEASURED_FRAMES + " frames, " + labelUpdates + " label updates");
+        assertTrue("the countdowns never changed their labels", labelUpdates > 0);
+        assertTrue(allocated + " bytes allocated over " + MEASURED_FRAMES + " frames", allocated < ALLOWED_BYTES);
+    }
+
+    // One frame as the multiplayer screen runs it: skill timers, button state, then layout.
+    // Each skill is used again as soon as it is ready.
+    private static void play(SkillButtons buttons, Skill[] skills, int frames) {
+        for (int frame = 0; frame < frames; frame++) {
+            buttons.tick(FRAME);
+            for (Skill skill : skills) {
+                if (skill.canActivate()) {
+                    skill.activate();
+                }
+            }
+            buttons.update();
+            for (int i = 0; i < buttons.size(); i++) {
+                buttons.getButton(i).validate();
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package io.github.logic.data;
+
+import java.io.Serializable;
+
+public class GameStateDTO implements Serializable {
+    public String roomId;
+    public PlayerState player;
+    // Sequence number of this state, increasing per sender
+    public int ack;
+    // Newest state the sender has received from its opponent
+    public int lastReceivedAck;
+    // State this one is a delta against, 0 for a keyframe
+    public int baseAck;
+    // Set when the sender could not apply a delta and needs a keyframe
+    public boolean keyframeRequest;
+    // Set by an authoritative server on the recipient's own board, lastReceivedAck is then its last applied input
+    public boolean ownBoard;
+}
@@ -0,0 +1,19 @@
+package io.github.logic.data;
+
+import java.io.Serializable;
+
+public class PlayerState implements Serializable {
+    public static final int CURRENT_PIECE = 1;
+    public static final int NEXT_PIECE = 1 << 1;
+
+    public int[][] grid;
+    public TetrominoDTO currentPiece;
+    public TetrominoDTO nextPiece;
+    public int pieceIndex;
+    public float health;
+    public boolean boardFull;
+    // Bit i set when grid[i] is included, unchanged rows are left null in deltas
+    public int changedRows;
+    // CURRENT_PIECE / NEXT_PIECE when that piece is included (a null piece then means "none")
+    public int changedPieces;
+}
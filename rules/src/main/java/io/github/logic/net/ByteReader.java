@@ -0,0 +1,60 @@
+package io.github.logic.net;
+
+import java.nio.charset.StandardCharsets;
+
+/** Cursor over a byte array slice, the reading side of {@link ByteWriter}. */
+public class ByteReader {
+    private byte[] data;
+    private int position;
+    private int limit;
+
+    public ByteReader wrap(byte[] data, int offset, int length) {
+        this.data = data;
+        this.position = offset;
+        this.limit = offset + length;
+        return this;
+    }
+
+    public boolean hasRemaining() {
+        return position < limit;
+    }
+
+    public int readByte() {
+        if (position >= limit) {
+            throw new IllegalArgumentException("Unexpected end of frame");
+        }
+        return data[position++] & 0xFF;
+    }
+
+    public int readVarInt() {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    public int readZigZag() {
+        int value = readVarInt();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public float readFloat() {
+        int bits = (readByte() << 24) | (readByte() << 16) | (readByte() << 8) | readByte();
+        return Float.intBitsToFloat(bits);
+    }
+
+    public String readString() {
+        int length = readVarInt();
+        if (length > limit - position) {
+            throw new IllegalArgumentException("Unexpected end of frame");
+        }
+        String value = new String(data, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.logic.net;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/** Growable byte buffer meant to be reset and reused for every message. */
+public class ByteWriter {
+    private byte[] data;
+    private int size = 0;
+
+    public ByteWriter(int capacity) {
+        data = new byte[Math.max(16, capacity)];
+    }
+
+    public void reset() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public byte[] array() {
+        return data;
+    }
+
+    private void ensure(int extra) {
+        if (size + extra > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, size + extra));
+        }
+    }
+
+    public void writeByte(int b) {
+        ensure(1);
+        data[size++] = (byte) b;
+    }
+
+    public void writeBytes(byte[] bytes, int offset, int length) {
+        ensure(length);
+        System.arraycopy(bytes, offset, data, size, length);
+        size += length;
+    }
+
+    public void writeVarInt(int value) {
+        ensure(5);
+        while ((value & ~0x7F) != 0) {
+            data[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[size++] = (byte) value;
+    }
+
+    public void writeZigZag(int value) {
+        writeVarInt((value << 1) ^ (value >> 31));
+    }
+
+    public void writeFloat(float value) {
+        int bits = Float.floatToIntBits(value);
+        ensure(4);
+        data[size++] = (byte) (bits >>> 24);
+        data[size++] = (byte) (bits >>> 16);
+        data[size++] = (byte) (bits >>> 8);
+        data[size++] = (byte) bits;
+    }
+
+    public void writeString(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length);
+        writeBytes(bytes, 0, bytes.length);
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(data, size);
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(data, 0, size);
+    }
+}
@@ -0,0 +1,224 @@
+package io.github.logic.net;
+
+import io.github.logic.data.GameStateDTO;
+import io.github.logic.data.PlayerState;
+import io.github.logic.data.TetrominoDTO;
+import io.github.logic.tetris_battle.board.TetrominoShapes;
+
+/**
+ * Binary encoding of {@link GameStateDTO} for {@link Protocol#FRAME_GAME_STATE} frames.
+ *
+ * Only the rows flagged in {@link PlayerState#changedRows} are written, each as a varint
+ * occupancy mask, followed by a colour plane holding 3 bits per occupied cell. Pieces are sent
+ * as (type, rotation, row, col) when flagged in {@link PlayerState#changedPieces}; receivers
+ * rebuild the shape from the type and rotation, so {@link TetrominoDTO#shape} is left null.
+ */
+public class GameStateCodec {
+    private static final int HAS_GRID = 1;
+    private static final int CURRENT_PIECE_CHANGED = 1 << 1;
+    private static final int CURRENT_PIECE_PRESENT = 1 << 2;
+    private static final int NEXT_PIECE_CHANGED = 1 << 3;
+    private static final int NEXT_PIECE_PRESENT = 1 << 4;
+    private static final int KEYFRAME_REQUEST = 1 << 5;
+    private static final int OWN_BOARD = 1 << 6;
+    private static final int BOARD_FULL = 1 << 7;
+
+    private static final int COLOUR_BITS = 3;
+    private static final int COLOUR_MASK = (1 << COLOUR_BITS) - 1;
+
+    public static void encode(GameStateDTO state, ByteWriter out) {
+        PlayerState player = state.player;
+        out.writeString(state.roomId);
+        out.writeVarInt(state.ack);
+        out.writeVarInt(state.lastReceivedAck);
+        out.writeVarInt(state.baseAck);
+
+        boolean currentChanged = (player.changedPieces & PlayerState.CURRENT_PIECE) != 0;
+        boolean nextChanged = (player.changedPieces & PlayerState.NEXT_PIECE) != 0;
+
+        int flags = 0;
+        if (player.grid != null) flags |= HAS_GRID;
+        if (currentChanged) flags |= CURRENT_PIECE_CHANGED;
+        if (currentChanged && player.currentPiece != null) flags |= CURRENT_PIECE_PRESENT;
+        if (nextChanged) flags |= NEXT_PIECE_CHANGED;
+        if (nextChanged && player.nextPiece != null) flags |= NEXT_PIECE_PRESENT;
+        if (state.keyframeRequest) flags |= KEYFRAME_REQUEST;
+        if (state.ownBoard) flags |= OWN_BOARD;
+        if (player.boardFull) flags |= BOARD_FULL;
+        out.writeByte(flags);
+
+        out.writeVarInt(player.pieceIndex);
+        out.writeFloat(player.health);
+
+        if (player.grid != null) {
+            writeGrid(player.grid, player.changedRows, out);
+        }
+        if ((flags & CURRENT_PIECE_PRESENT) != 0) {
+            writePiece(player.currentPiece, out);
+        }
+        if ((flags & NEXT_PIECE_PRESENT) != 0) {
+            writePiece(player.nextPiece, out);
+        }
+    }
+
+    /** Decodes a frame whose grid, if any, must be {@link Protocol#BOARD_ROWS} by {@link Protocol#BOARD_COLS}. */
+    public static GameStateDTO decode(ByteReader in) {
+        return decode(in, Protocol.BOARD_ROWS, Protocol.BOARD_COLS);
+    }
+
+    /** @throws IllegalArgumentException if the frame is malformed or its grid is not rows by cols */
+    public static GameStateDTO decode(ByteReader in, int expectedRows, int expectedCols) {
+        GameStateDTO state = new GameStateDTO();
+        state.roomId = in.readString();
+        state.ack = in.readVarInt();
+        state.lastReceivedAck = in.readVarInt();
+        state.baseAck = in.readVarInt();
+
+        PlayerState player = new PlayerState();
+        state.player = player;
+        int flags = in.readByte();
+        state.keyframeRequest = (flags & KEYFRAME_REQUEST) != 0;
+        state.ownBoard = (flags & OWN_BOARD) != 0;
+        player.boardFull = (flags & BOARD_FULL) != 0;
+        player.pieceIndex = in.readVarInt();
+        player.health = in.readFloat();
+
+        if ((flags & HAS_GRID) != 0) {
+            readGrid(player, in, expectedRows, expectedCols);
+        }
+        if ((flags & CURRENT_PIECE_CHANGED) != 0) {
+            player.changedPieces |= PlayerState.CURRENT_PIECE;
+            if ((flags & CURRENT_PIECE_PRESENT) != 0) {
+                player.currentPiece = readPiece(in);
+            }
+        }
+        if ((flags & NEXT_PIECE_CHANGED) != 0) {
+            player.changedPieces |= PlayerState.NEXT_PIECE;
+            if ((flags & NEXT_PIECE_PRESENT) != 0) {
+                player.nextPiece = readPiece(in);
+            }
+        }
+        return state;
+    }
+
+    private static void writeGrid(int[][] grid, int changedRows, ByteWriter out) {
+        int rows = grid.length;
+        int cols = 0;
+        for (int i = 0; i < rows; i++) {
+            if (grid[i] != null) {
+                cols = grid[i].length;
+                break;
+            }
+        }
+        out.writeVarInt(rows);
+        out.writeVarInt(cols);
+        out.writeVarInt(changedRows);
+
+        for (int i = 0; i < rows; i++) {
+            if ((changedRows & (1 << i)) == 0) {
+                continue;
+            }
+            int mask = 0;
+            for (int j = 0; j < cols; j++) {
+                if (grid[i][j] != -1) {
+                    mask |= 1 << j;
+                }
+            }
+            out.writeVarInt(mask);
+        }
+
+        int bits = 0;
+        int bitCount = 0;
+        for (int i = 0; i < rows; i++) {
+            if ((changedRows & (1 << i)) == 0) {
+                continue;
+            }
+            for (int j = 0; j < cols; j++) {
+                if (grid[i][j] != -1) {
+                    bits |= (grid[i][j] & COLOUR_MASK) << bitCount;
+                    bitCount += COLOUR_BITS;
+                    if (bitCount >= 8) {
+                        out.writeByte(bits);
+                        bits >>>= 8;
+                        bitCount -= 8;
+                    }
+                }
+            }
+        }
+        if (bitCount > 0) {
+            out.writeByte(bits);
+        }
+    }
+
+    private static void readGrid(PlayerState player, ByteReader in, int expectedRows, int expectedCols) {
+        int rows = in.readVarInt();
+        int cols = in.readVarInt();
+        // rows and cols index bits of an int mask, so anything past 32 would wrap
+        if (rows != expectedRows || cols != expectedCols || rows > 32 || cols > 32) {
+            throw new IllegalArgumentException("Unexpected grid size " + rows + "x" + cols);
+        }
+        int changedRows = in.readVarInt();
+        if (rows < 32 && (changedRows >>> rows) != 0) {
+            throw new IllegalArgumentException("Changed rows out of range");
+        }
+        int[][] grid = new int[rows][];
+        int[] masks = new int[rows];
+        for (int i = 0; i < rows; i++) {
+            if ((changedRows & (1 << i)) != 0) {
+                masks[i] = in.readVarInt();
+                if (cols < 32 && (masks[i] >>> cols) != 0) {
+                    throw new IllegalArgumentException("Row mask out of range");
+                }
+            }
+        }
+
+        int bits = 0;
+        int bitCount = 0;
+        for (int i = 0; i < rows; i++) {
+            if ((changedRows & (1 << i)) == 0) {
+                continue;
+            }
+            grid[i] = new int[cols];
+            for (int j = 0; j < cols; j++) {
+                if ((masks[i] & (1 << j)) == 0) {
+                    grid[i][j] = -1;
+                    continue;
+                }
+                if (bitCount < COLOUR_BITS) {
+                    bits |= in.readByte() << bitCount;
+                    bitCount += 8;
+                }
+                grid[i][j] = bits & COLOUR_MASK;
+                if (grid[i][j] >= TetrominoShapes.TYPES) {
+                    throw new IllegalArgumentException("Cell colour out of range");
+                }
+                bits >>>= COLOUR_BITS;
+                bitCount -= COLOUR_BITS;
+            }
+        }
+        player.grid = grid;
+        player.changedRows = changedRows;
+    }
+
+    private static void writePiece(TetrominoDTO piece, ByteWriter out) {
+        out.writeByte(piece.type);
+        out.writeByte(piece.rotationState);
+        out.writeZigZag(piece.row);
+        out.writeZigZag(piece.col);
+    }
+
+    private static TetrominoDTO readPiece(ByteReader in) {
+        TetrominoDTO piece = new TetrominoDTO();
+        piece.type = in.readByte();
+        piece.rotationState = in.readByte();
+        piece.row = in.readZigZag();
+        piece.col = in.readZigZag();
+        if (piece.type < 0 || piece.type >= TetrominoShapes.TYPES) {
+            throw new IllegalArgumentException("Piece type out of range");
+        }
+        if (piece.rotationState < 0 || piece.rotationState >= TetrominoShapes.ROTATIONS) {
+            throw new IllegalArgumentException("Piece rotation out of range");
+        }
+        return piece;
+    }
+}
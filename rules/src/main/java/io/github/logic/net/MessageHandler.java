@@ -0,0 +1,8 @@
+package io.github.logic.net;
+
+public interface MessageHandler {
+    void onLine(String line);
+
+    /** The payload array may be reused once this returns; copy what needs to outlive the call. */
+    void onFrame(int type, byte[] payload, int offset, int length);
+}
@@ -0,0 +1,33 @@
+package io.github.logic.net;
+
+/**
+ * Binary framing shared by the client and the server.
+ *
+ * Text messages stay '\n' terminated lines. Once both ends agreed on a version through
+ * {@code hello:<version>} / {@code hello_ok:<version>}, either side may also send frames:
+ * a type byte, a varint payload length and the payload. Frame types are control characters
+ * that never start a text line, so lines and frames can share one stream.
+ */
+public class Protocol {
+    public static final int VERSION = 2;
+
+    public static final int FRAME_GAME_STATE = 0x01;
+
+    public static final int MAX_FRAME_LENGTH = 64 * 1024;
+
+    // Multiplayer board size; game state grids of any other size are rejected
+    public static final int BOARD_ROWS = 20;
+    public static final int BOARD_COLS = 10;
+
+    public static boolean isFrameType(int b) {
+        return b == FRAME_GAME_STATE;
+    }
+
+    public static byte[] encodeFrame(int type, byte[] payload, int offset, int length) {
+        ByteWriter writer = new ByteWriter(length + 6);
+        writer.writeByte(type);
+        writer.writeVarInt(length);
+        writer.writeBytes(payload, offset, length);
+        return writer.toByteArray();
+    }
+}
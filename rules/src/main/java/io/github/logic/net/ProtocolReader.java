@@ -0,0 +1,97 @@
+package io.github.logic.net;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Blocking reader for a stream of text lines and binary frames (see {@link Protocol}).
+ * Buffers the raw stream itself, so no extra BufferedReader/BufferedInputStream is needed.
+ */
+public class ProtocolReader {
+    private final InputStream in;
+    private final byte[] chunk = new byte[8 * 1024];
+    private int position = 0;
+    private int limit = 0;
+    private byte[] message = new byte[256];
+
+    public ProtocolReader(InputStream in) {
+        this.in = in;
+    }
+
+    /** Reads the next line or frame into the handler, returns false at end of stream. */
+    public boolean readNext(MessageHandler handler) throws IOException {
+        int first = read();
+        if (first < 0) {
+            return false;
+        }
+
+        if (Protocol.isFrameType(first)) {
+            int length = readVarInt();
+            if (length > Protocol.MAX_FRAME_LENGTH) {
+                throw new IOException("Frame exceeds " + Protocol.MAX_FRAME_LENGTH + " bytes");
+            }
+            ensureCapacity(length);
+            for (int i = 0; i < length; i++) {
+                int b = read();
+                if (b < 0) {
+                    throw new EOFException("Stream ended inside a frame");
+                }
+                message[i] = (byte) b;
+            }
+            handler.onFrame(first, message, 0, length);
+            return true;
+        }
+
+        int length = 0;
+        int b = first;
+        while (b >= 0 && b != '\n') {
+            ensureCapacity(length + 1);
+            message[length++] = (byte) b;
+            b = read();
+        }
+        if (length > 0 && message[length - 1] == '\r') {
+            length--;
+        }
+        handler.onLine(new String(message, 0, length, StandardCharsets.UTF_8));
+        return true;
+    }
+
+    private int read() throws IOException {
+        if (position == limit) {
+            limit = in.read(chunk, 0, chunk.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return chunk[position++] & 0xFF;
+    }
+
+    private int readVarInt() throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = read();
+            if (b < 0) {
+                throw new EOFException("Stream ended inside a frame header");
+            }
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed frame length");
+    }
+
+    private void ensureCapacity(int length) throws IOException {
+        if (length > Protocol.MAX_FRAME_LENGTH) {
+            throw new IOException("Message exceeds " + Protocol.MAX_FRAME_LENGTH + " bytes");
+        }
+        if (length > message.length) {
+            message = Arrays.copyOf(message, Math.max(length, message.length * 2));
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package io.github.logic.tetris_battle.board;
+
+/**
+ * Cell storage behind {@link Board}. Each row is an int with bit c set when column c is
+ * occupied, so collision is an AND per piece row and a full row is a compare against
+ * {@link #getFullRowMask()}. Piece types live in a separate byte plane that only matters for
+ * occupied cells. Row 0 is the bottom of the board.
+ *
+ * The height of every column (one above its highest occupied cell) is kept up to date on each
+ * change, so a falling piece's landing row can be found without stepping it down.
+ */
+public class BitBoard {
+    public static final int EMPTY = -1;
+
+    private final int rows;
+    private final int cols;
+    private final int fullRowMask;
+    private final int[] rowMasks;
+    private final byte[] colours;
+    private final int[] heights;
+
+    // int[][] copy for renderers and serializers, rebuilt on demand after a change
+    private final int[][] view;
+    private boolean viewDirty = true;
+    private int version = 0;
+
+    public BitBoard(int rows, int cols) {
+        if (cols > 31) {
+            throw new IllegalArgumentException("At most 31 columns fit in a row mask: " + cols);
+        }
+        if (rows > 32) {
+            throw new IllegalArgumentException("At most 32 rows fit in a cleared row mask: " + rows);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.fullRowMask = (1 << cols) - 1;
+        this.rowMasks = new int[rows];
+        this.colours = new byte[rows * cols];
+        this.heights = new int[cols];
+        this.view = new int[rows][cols];
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public int getFullRowMask() {
+        return fullRowMask;
+    }
+
+    public int getRowMask(int row) {
+        return rowMasks[row];
+    }
+
+    /** Changes on every write to the cells, so a renderer can tell whether its cached copy is stale. */
+    public int getVersion() {
+        return version;
+    }
+
+    public boolean isOccupied(int row, int col) {
+        return (rowMasks[row] & (1 << col)) != 0;
+    }
+
+    /** One above the highest occupied cell in the column, 0 when the column is empty. */
+    public int getHeight(int col) {
+        return heights[col];
+    }
+
+    public boolean isRowFull(int row) {
+        return rowMasks[row] == fullRowMask;
+    }
+
+    /** Piece type at the cell, or {@link #EMPTY}. */
+    public int get(int row, int col) {
+        return isOccupied(row, col) ? colours[row * cols + col] : EMPTY;
+    }
+
+    public void set(int row, int col, int type) {
+        if (type == EMPTY) {
+            rowMasks[row] &= ~(1 << col);
+            if (heights[col] == row + 1) {
+                settleHeight(col);
+            }
+        } else {
+            rowMasks[row] |= 1 << col;
+            colours[row * cols + col] = (byte) type;
+            heights[col] = Math.max(heights[col], row + 1);
+        }
+        viewDirty = true;
+        version++;
+    }
+
+    /**
+     * Removes every full row in one pass: surviving rows are copied down over the gaps in place
+     * and only the rows left empty at the top are reset. Returns a mask with bit r set for each
+     * row r that was cleared, numbered as before the move.
+     */
+    public int clearFullRows() {
+        int cleared = 0;
+        int write = 0;
+        for (int read = 0; read < rows; read++) {
+            if (rowMasks[read] == fullRowMask) {
+                cleared |= 1 << read;
+                continue;
+            }
+            if (write != read) {
+                rowMasks[write] = rowMasks[read];
+                System.arraycopy(colours, read * cols, colours, write * cols, cols);
+            }
+            write++;
+        }
+        if (cleared == 0) {
+            return 0;
+        }
+        for (int r = write; r < rows; r++) {
+            rowMasks[r] = 0;
+        }
+        for (int c = 0; c < cols; c++) {
+            // The top cell drops by the number of cleared rows under it, unless it was cleared itself
+            int height = heights[c];
+            heights[c] = height - Integer.bitCount(cleared & (int) ((1L << height) - 1));
+            settleHeight(c);
+        }
+        viewDirty = true;
+        version++;
+        return cleared;
+    }
+
+    /** Replaces the contents from an int[][] grid using -1 for empty cells. */
+    public void load(int[][] grid) {
+        for (int r = 0; r < rows; r++) {
+            int mask = 0;
+            for (int c = 0; c < cols; c++) {
+                int type = grid[r][c];
+                if (type != EMPTY) {
+                    mask |= 1 << c;
+                    colours[r * cols + c] = (byte) type;
+                }
+            }
+            rowMasks[r] = mask;
+        }
+        for (int c = 0; c < cols; c++) {
+            heights[c] = rows;
+            settleHeight(c);
+        }
+        viewDirty = true;
+        version++;
+    }
+
+    // Lowers the column height past any empty cells left on top
+    private void settleHeight(int col) {
+        int height = heights[col];
+        while (height > 0 && (rowMasks[height - 1] & (1 << col)) == 0) {
+            height--;
+        }
+        heights[col] = height;
+    }
+
+    /**
+     * The cells as an int[rows][cols] grid with -1 for empty cells. The arrays are reused and
+     * refreshed on the next call after a change, so callers must copy what they keep.
+     */
+    public int[][] view() {
+        if (viewDirty) {
+            for (int r = 0; r < rows; r++) {
+                int mask = rowMasks[r];
+                int[] line = view[r];
+                for (int c = 0; c < cols; c++) {
+                    line[c] = (mask & (1 << c)) != 0 ? colours[r * cols + c] : EMPTY;
+                }
+            }
+            viewDirty = false;
+        }
+        return view;
+    }
+}
@@ -0,0 +1,289 @@
+package io.github.logic.tetris_battle.board;
+
+import io.github.logic.tetris_battle.score.HealthBar;
+import io.github.logic.tetris_battle.score.ScoreManager;
+import io.github.logic.tetris_battle.helper.CollisionChecker;
+import io.github.logic.utils.Side;
+
+public class Board {
+    private final int ROWS;
+    private final int COLS;
+    private final BitBoard cells;
+    private boolean isFull = false;
+    private ScoreManager scoreManager;
+    private TetrominoSpawner spawner;
+    private int spawnerCursor = -1;
+    private String roomId;
+    private final BoardEvents events = new BoardEvents();
+    private Tetromino currentRunningPiece = null;
+    private int currentIndex = 0;
+    private Tetromino nextRunningPiece = null;
+    private int nextIndex = 0;
+    private float spawnTimer = 0f; // Tracks time since last spawn
+    private final float SPAWN_DELAY = 1.0f; // Spawn a new piece every 1 second
+
+    public Board(int row, int col, Side side, TetrominoSpawner spawner, HealthBar healthBar, String roomId) {
+        this.ROWS = row;
+        this.COLS = col;
+        this.cells = new BitBoard(ROWS, COLS);
+        this.spawner = spawner;
+        if (spawner != null) {
+            spawnerCursor = spawner.registerCursor();
+        }
+        this.scoreManager = new ScoreManager(side, healthBar);
+        this.roomId = roomId;
+    }
+
+    /** Replaces all subscribers with {@code listener}; null or {@link BoardListener#NONE} leaves none. */
+    public void setListener(BoardListener listener) {
+        events.clear();
+        if (listener != null && listener != BoardListener.NONE) {
+            events.subscribe(listener);
+        }
+    }
+
+    /** Stops holding the spawner's pieces back, once this board will not spawn again. */
+    public void releaseSpawner() {
+        if (spawner != null && spawnerCursor >= 0) {
+            spawner.unregisterCursor(spawnerCursor);
+            spawnerCursor = -1;
+        }
+    }
+
+    public BoardEvents getEvents() {
+        return events;
+    }
+
+    /** Hands the events raised since the last call to the subscribers. */
+    public void dispatchEvents() {
+        events.dispatch();
+    }
+
+    public ScoreManager getScoreManager() {
+        return scoreManager;
+    }
+
+    public boolean isFull() {
+        return isFull;
+    }
+
+    public void setCurrentRunningPiece(Tetromino piece) {
+        this.currentRunningPiece = piece;
+    }
+
+    public void setNextRunningPiece(Tetromino piece) {
+        this.nextRunningPiece = piece;
+    }
+
+    public Tetromino getCurrentRunningPiece() {
+        return currentRunningPiece;
+    }
+
+    public Tetromino getNextTetromino() { return nextRunningPiece; }
+
+    public void placePiece(Tetromino piece) {
+        int[][] shape = piece.getShape();
+        int row = piece.getRow(), col = piece.getCol();
+
+        for (int i = 0; i < shape.length; i++) {
+            int targetRow = row + i;
+            if (targetRow < 0 || targetRow >= ROWS) {
+                continue;
+            }
+            int[] shapeRow = shape[i];
+            for (int j = 0; j < shapeRow.length; j++) {
+                int targetCol = col + j;
+                if (shapeRow[j] == 1 && targetCol >= 0 && targetCol < COLS) {
+                    cells.set(targetRow, targetCol, piece.getType());
+                }
+            }
+        }
+
+        events.post(BoardEvents.PIECE_PLACED, 0);
+
+        clearFullRows();
+        currentRunningPiece = null;
+    }
+
+    /** Clears full rows and scores them. Returns a mask with bit r set for each cleared row r. */
+    public int clearFullRows() {
+        int cleared = cells.clearFullRows(); // rows above shift down, vacated top rows are reset
+        int clearedRows = Integer.bitCount(cleared);
+
+        // Apply score and combo based on how many were cleared
+        if (clearedRows > 0) {
+            for (int i = 0; i < clearedRows; i++) {
+                scoreManager.score(); // Add score for each row
+            }
+            events.post(BoardEvents.ROWS_CLEARED, cleared);
+        }
+
+        scoreManager.resetCombo();
+        return cleared;
+    }
+
+
+    public void dropPiece() {
+        if (currentRunningPiece == null || isFull) {
+            return;
+        }
+        Tetromino piece = currentRunningPiece;
+        if (!collides(piece.getRotationState(), piece.getRow() - 1, piece.getCol())) {
+            currentRunningPiece.drop();
+            events.post(BoardEvents.PIECE_MOVED, 0);
+        } else {
+            placePiece(currentRunningPiece);
+        }
+    }
+
+    public void movePiece(int dir) {
+        if (currentRunningPiece == null || isFull) {
+            return;
+        }
+        Tetromino piece = currentRunningPiece;
+        if (!collides(piece.getRotationState(), piece.getRow(), piece.getCol() + dir)) {
+            currentRunningPiece.move(dir);
+            events.post(BoardEvents.PIECE_MOVED, 0);
+        }
+    }
+
+    public void rotatePiece() {
+        if (currentRunningPiece == null || isFull) {
+            return;
+        }
+        Tetromino piece = currentRunningPiece;
+        int rotation = (piece.getRotationState() + 1) % TetrominoShapes.ROTATIONS;
+        if (!collides(rotation, piece.getRow(), piece.getCol())) {
+            currentRunningPiece.rotate();
+            events.post(BoardEvents.PIECE_MOVED, 0);
+        }
+    }
+
+    // Tests the current piece at another rotation or position without touching it
+    private boolean collides(int rotation, int row, int col) {
+        return CollisionChecker.getInstance().checkCollision(currentRunningPiece.getType(), rotation, row, col, cells);
+    }
+
+    public void spawnPiece() {
+        if (spawner != null) {
+            Tetromino piece = spawner.getTetromino(currentIndex);
+            nextRunningPiece = spawner.peekNextTetromino(currentIndex + 1);
+            handleSpawn(piece);
+            spawner.advanceCursor(spawnerCursor, currentIndex);
+            events.post(BoardEvents.PIECE_SPAWNED, 0);
+        } else {
+            events.post(BoardEvents.PIECE_REQUESTED, currentIndex);
+        }
+
+    }
+
+    public void handleSpawn(Tetromino piece) {
+        currentRunningPiece = piece;
+        currentIndex++;
+        int[][] shape = currentRunningPiece.getShape();
+        int spawnRow = ROWS - shape.length;
+        int spawnCol = (COLS - shape[0].length) / 2 + 1;
+        currentRunningPiece.setRow(spawnRow);
+        currentRunningPiece.setCol(spawnCol);
+
+        if (CollisionChecker.getInstance().checkCollision(currentRunningPiece, this)) {
+            isFull = true;
+            currentRunningPiece = null;
+        }
+    }
+    public int getCurrentIndex() {return currentIndex;}
+
+    /** Takes over a state simulated elsewhere, such as the server's copy of this board. */
+    public void restore(int[][] grid, Tetromino current, Tetromino next, int index, boolean full) {
+        cells.load(grid);
+        currentRunningPiece = current;
+        nextRunningPiece = next;
+        currentIndex = index;
+        isFull = full;
+    }
+
+    public int getROWS() {
+        return ROWS;
+    }
+
+    public int getCOLS() {
+        return COLS;
+    }
+
+    public void setGrid(int[][] grid) {
+        cells.load(grid);
+    }
+
+    /** The cells as rows of piece types with -1 for empty; reused between calls, copy to keep. */
+    public int[][] getGrid() {
+        return cells.view();
+    }
+
+    public BitBoard getCells() {
+        return cells;
+    }
+
+    /** How far the board is into its current gravity interval, from 0 up to (not including) 1. */
+    public float getGravityProgress() {
+        return spawnTimer / SPAWN_DELAY;
+    }
+
+    public void update(float delta) {
+        spawnTimer += delta;
+
+        if (spawnTimer >= SPAWN_DELAY) {
+            if (currentRunningPiece == null && !isFull)
+            {
+                spawnPiece();
+            }
+            if (currentRunningPiece != null && !isFull) {
+                events.post(BoardEvents.GRAVITY_DROP, 0);
+            }
+            dropPiece();
+            spawnTimer -= SPAWN_DELAY; // keep the remainder so gravity does not drift with the step size
+        }
+    }
+
+    /**
+     * Row the piece would come to rest on if dropped straight down from where it is. When the
+     * piece is above the stack this is one pass over its bottom profile against the column
+     * heights; a piece slid under an overhang is stepped down row by row instead.
+     */
+    public int landingRow(Tetromino piece) {
+        int type = piece.getType();
+        int rotation = piece.getRotationState();
+        int row = piece.getRow();
+        int col = piece.getCol();
+        int[] bottoms = TetrominoShapes.bottoms(type, rotation);
+
+        int landing = 0;
+        for (int j = 0; j < bottoms.length; j++) {
+            int column = col + j;
+            if (column < 0 || column >= COLS) {
+                return row; // only happens for pieces already off the board
+            }
+            landing = Math.max(landing, cells.getHeight(column) - bottoms[j]);
+        }
+        if (landing <= row) {
+            return landing;
+        }
+
+        CollisionChecker checker = CollisionChecker.getInstance();
+        while (!checker.checkCollision(type, rotation, row - 1, col, cells)) {
+            row--;
+        }
+        return row;
+    }
+
+    public void dropPieceToBottom() {
+        if (currentRunningPiece == null || isFull) {
+            return;
+        }
+
+        currentRunningPiece.setRow(landingRow(currentRunningPiece));
+
+        // Place the piece at its final position
+        placePiece(currentRunningPiece);
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,120 @@
+package io.github.logic.tetris_battle.board;
+
+/**
+ * Events raised by a {@link Board}, recorded as (type, argument) pairs in a ring of primitive
+ * arrays and handed to the subscribers when the owner calls {@link #dispatch()}, normally once
+ * per frame. Rule code only pays for a couple of array stores, and nothing at all when no one
+ * is subscribed, which is how the server and bots run boards.
+ */
+public class BoardEvents {
+    public static final int PIECE_MOVED = 0;
+    public static final int GRAVITY_DROP = 1;
+    public static final int PIECE_PLACED = 2;
+    public static final int ROWS_CLEARED = 3;    // argument: mask of cleared rows
+    public static final int PIECE_SPAWNED = 4;
+    public static final int PIECE_REQUESTED = 5; // argument: piece index
+
+    private static final int INITIAL_CAPACITY = 64; // power of two, a frame rarely needs more than a few
+
+    private byte[] types = new byte[INITIAL_CAPACITY];
+    private int[] arguments = new int[INITIAL_CAPACITY];
+    private int mask = INITIAL_CAPACITY - 1;
+    private int head = 0;
+    private int size = 0;
+    private BoardListener[] listeners = new BoardListener[0];
+
+    public boolean hasListeners() {
+        return listeners.length > 0;
+    }
+
+    public void subscribe(BoardListener listener) {
+        BoardListener[] grown = new BoardListener[listeners.length + 1];
+        System.arraycopy(listeners, 0, grown, 0, listeners.length);
+        grown[listeners.length] = listener;
+        listeners = grown;
+    }
+
+    public void unsubscribe(BoardListener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                BoardListener[] shrunk = new BoardListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, shrunk, 0, i);
+                System.arraycopy(listeners, i + 1, shrunk, i, listeners.length - 1 - i);
+                listeners = shrunk;
+                if (listeners.length == 0) {
+                    size = 0;
+                }
+                return;
+            }
+        }
+    }
+
+    /** Drops all subscribers and any events still pending. */
+    public void clear() {
+        listeners = new BoardListener[0];
+        size = 0;
+    }
+
+    public void post(int type, int argument) {
+        if (listeners.length == 0) {
+            return;
+        }
+        if (size == types.length) {
+            grow();
+        }
+        int index = (head + size) & mask;
+        types[index] = (byte) type;
+        arguments[index] = argument;
+        size++;
+    }
+
+    /** Delivers every pending event to every subscriber, oldest first. */
+    public void dispatch() {
+        while (size > 0) {
+            int type = types[head];
+            int argument = arguments[head];
+            head = (head + 1) & mask;
+            size--;
+            for (BoardListener listener : listeners) {
+                deliver(listener, type, argument);
+            }
+        }
+    }
+
+    private static void deliver(BoardListener listener, int type, int argument) {
+        switch (type) {
+        case PIECE_MOVED:
+            listener.onPieceMoved();
+            break;
+        case GRAVITY_DROP:
+            listener.onGravityDrop();
+            break;
+        case PIECE_PLACED:
+            listener.onPiecePlaced();
+            break;
+        case ROWS_CLEARED:
+            listener.onRowsCleared(Integer.bitCount(argument), argument);
+            break;
+        case PIECE_SPAWNED:
+            listener.onPieceSpawned();
+            break;
+        case PIECE_REQUESTED:
+            listener.onPieceRequested(argument);
+            break;
+        }
+    }
+
+    // Only when the owner skipped dispatching for a long stretch
+    private void grow() {
+        byte[] grownTypes = new byte[types.length * 2];
+        int[] grownArguments = new int[arguments.length * 2];
+        for (int i = 0; i < size; i++) {
+            grownTypes[i] = types[(head + i) & mask];
+            grownArguments[i] = arguments[(head + i) & mask];
+        }
+        types = grownTypes;
+        arguments = grownArguments;
+        mask = types.length - 1;
+        head = 0;
+    }
+}
@@ -0,0 +1,34 @@
+package io.github.logic.tetris_battle.board;
+
+/**
+ * Side effects of a {@link Board} that are not game rules: sounds on the client, piece
+ * requests to the server. Calls arrive from {@link Board#dispatchEvents()} in the order the
+ * board raised them, not while the rules run. The server simulation runs boards with no
+ * listener at all.
+ */
+public interface BoardListener {
+    BoardListener NONE = new BoardListener() {
+    };
+
+    default void onPieceMoved() {
+    }
+
+    /** Raised before each gravity step that drops the current piece. */
+    default void onGravityDrop() {
+    }
+
+    default void onPiecePlaced() {
+    }
+
+    /** {@code clearedMask} has bit r set for each cleared row r, numbered before the rows above moved down. */
+    default void onRowsCleared(int rows, int clearedMask) {
+    }
+
+    /** Raised after the board spawned a piece from its own spawner. */
+    default void onPieceSpawned() {
+    }
+
+    /** Raised when a board without a spawner needs the piece at {@code index}. */
+    default void onPieceRequested(int index) {
+    }
+}
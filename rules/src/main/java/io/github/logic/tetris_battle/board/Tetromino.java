@@ -0,0 +1,112 @@
+package io.github.logic.tetris_battle.board;
+
+import io.github.logic.data.TetrominoDTO;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A piece is its type, rotation and position. The cells come from the shared
+ * {@link TetrominoShapes} tables, so moving, dropping and rotating only update fields.
+ */
+public class Tetromino {
+    private int row, col, type;
+    private int rotationState;
+
+    public static final int[][][] SHAPES = {
+        {{1, 1, 1, 1}}, // I
+        {{1, 1}, {1, 1}}, // O
+        {{0, 1, 0}, {1, 1, 1}}, // T
+        {{1, 1, 0}, {0, 1, 1}}, // S
+        {{0, 1, 1}, {1, 1, 0}}, // Z
+        {{1, 1, 1}, {1, 0, 0}}, // L
+        {{1, 1, 1}, {0, 0, 1}}  // J
+    };
+
+    public Tetromino(int type) {
+        this.type = type;
+        this.row = 0;
+        this.col = 0;
+        this.rotationState = 0;
+    }
+
+    public Tetromino clonePiece() {
+        Tetromino clone = new Tetromino(type);
+        clone.row = this.row;
+        clone.col = this.col;
+        clone.rotationState = this.rotationState;
+        return clone;
+    }
+
+    /** Shared, read-only cells of the current rotation. */
+    public int[][] getShape() {
+        return TetrominoShapes.cells(type, rotationState);
+    }
+
+    /** Shared, read-only column bitmask per shape row of the current rotation. */
+    public int[] getRowMasks() {
+        return TetrominoShapes.rowMasks(type, rotationState);
+    }
+
+    public int getRow() {
+        return row;
+    }
+
+    public int getCol() {
+        return col;
+    }
+
+    public void setRow(int row) {
+        this.row = row;
+    }
+
+    public void setCol(int col) {
+        this.col = col;
+    }
+
+    public int getType() {
+        return type;
+    }
+
+    public int getRotationState() {
+        return rotationState;
+    }
+
+    public void move(int dir) {
+        this.col += dir;
+    }
+
+    public void drop() {
+        this.row--;
+    }
+
+    public void rotate() {
+        rotationState = (rotationState + 1) % TetrominoShapes.ROTATIONS;
+    }
+
+    public TetrominoDTO toDTO() {
+        TetrominoDTO dto = new TetrominoDTO();
+        dto.type = this.type;
+        dto.row = this.row;
+        dto.col = this.col;
+        dto.rotationState = this.rotationState;
+        int[][] shape = getShape();
+        List<int[]> shapeArray = new ArrayList<>(shape.length);
+        for (int[] row : shape) {
+            shapeArray.add(row);
+        }
+        dto.shape = shapeArray;
+        return dto;
+    }
+
+    public static Tetromino fromDTO(TetrominoDTO dto) {
+        Tetromino tetromino = new Tetromino(dto.type);
+        tetromino.setRow(dto.row);
+        tetromino.setCol(dto.col);
+        // The shape is implied by the type and rotation, dto.shape is only kept for JSON readers
+        tetromino.rotationState = dto.rotationState & (TetrominoShapes.ROTATIONS - 1);
+        return tetromino;
+    }
+
+
+}
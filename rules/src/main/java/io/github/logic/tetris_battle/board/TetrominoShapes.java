@@ -0,0 +1,108 @@
+package io.github.logic.tetris_battle.board;
+
+/**
+ * Every piece type in every rotation, built once from {@link Tetromino#SHAPES} with the same
+ * rotation rules pieces always used. The tables are shared by all pieces and must not be
+ * modified. Row i of a shape sits at board row (piece row + i).
+ */
+public final class TetrominoShapes {
+    public static final int TYPES = Tetromino.SHAPES.length;
+    public static final int ROTATIONS = 4;
+
+    private static final int[][][][] CELLS = new int[TYPES][ROTATIONS][][];
+    // Bit c of ROW_MASKS[type][rotation][i] is set when column c of shape row i is filled
+    private static final int[][][] ROW_MASKS = new int[TYPES][ROTATIONS][];
+    // Lowest filled shape row in each column, the part of the piece that lands first
+    private static final int[][][] BOTTOMS = new int[TYPES][ROTATIONS][];
+
+    static {
+        for (int type = 0; type < TYPES; type++) {
+            for (int rotation = 0; rotation < ROTATIONS; rotation++) {
+                int[][] cells = rotate(Tetromino.SHAPES[type], rotation);
+                CELLS[type][rotation] = cells;
+
+                int[] masks = new int[cells.length];
+                for (int i = 0; i < cells.length; i++) {
+                    for (int j = 0; j < cells[i].length; j++) {
+                        if (cells[i][j] == 1) {
+                            masks[i] |= 1 << j;
+                        }
+                    }
+                }
+                ROW_MASKS[type][rotation] = masks;
+                BOTTOMS[type][rotation] = bottoms(cells);
+            }
+        }
+    }
+
+    private TetrominoShapes() {
+    }
+
+    public static int[][] cells(int type, int rotation) {
+        return CELLS[type][rotation];
+    }
+
+    public static int[] rowMasks(int type, int rotation) {
+        return ROW_MASKS[type][rotation];
+    }
+
+    /** Lowest filled shape row per column. Every column of every shape has at least one cell. */
+    public static int[] bottoms(int type, int rotation) {
+        return BOTTOMS[type][rotation];
+    }
+
+    public static int height(int type, int rotation) {
+        return CELLS[type][rotation].length;
+    }
+
+    public static int width(int type, int rotation) {
+        return CELLS[type][rotation][0].length;
+    }
+
+    private static int[] bottoms(int[][] cells) {
+        int[] bottoms = new int[cells[0].length];
+        for (int j = 0; j < bottoms.length; j++) {
+            int i = 0;
+            while (i < cells.length - 1 && cells[i][j] == 0) {
+                i++;
+            }
+            bottoms[j] = i;
+        }
+        return bottoms;
+    }
+
+    // Rotation state n of a spawn shape, clockwise quarter turns
+    private static int[][] rotate(int[][] initial, int rotation) {
+        int rows = initial.length;
+        int cols = initial[0].length;
+        int[][] rotated;
+        if (rotation == 0) {
+            rotated = new int[rows][];
+            for (int i = 0; i < rows; i++) {
+                rotated[i] = initial[i].clone();
+            }
+        } else if (rotation == 1) {
+            rotated = new int[cols][rows];
+            for (int j = 0; j < cols; j++) {
+                for (int i = 0; i < rows; i++) {
+                    rotated[j][i] = initial[rows - 1 - i][j];
+                }
+            }
+        } else if (rotation == 2) {
+            rotated = new int[rows][cols];
+            for (int i = 0; i < rows; i++) {
+                for (int j = 0; j < cols; j++) {
+                    rotated[i][j] = initial[rows - 1 - i][cols - 1 - j];
+                }
+            }
+        } else {
+            rotated = new int[cols][rows];
+            for (int j = 0; j < cols; j++) {
+                for (int i = 0; i < rows; i++) {
+                    rotated[j][i] = initial[i][cols - 1 - j];
+                }
+            }
+        }
+        return rotated;
+    }
+}
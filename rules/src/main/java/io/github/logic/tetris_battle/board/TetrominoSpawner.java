@@ -0,0 +1,189 @@
+package io.github.logic.tetris_battle.board;
+
+import java.util.Random;
+
+/**
+ * Hands out pieces by index using the 7-bag rule. Unseeded spawners shuffle bags on demand and
+ * must be shared; seeded ones derive piece N from (seed, N) alone, so every client and the
+ * server compute the same sequence locally without talking to each other.
+ *
+ * Unseeded pieces live in a byte ring buffer keyed by absolute index. Boards sharing the
+ * spawner register a cursor and report their progress; pieces below the slowest cursor are
+ * dropped, so memory depends on how far apart the players are, not on how long they play.
+ */
+public class TetrominoSpawner {
+    private static final int BAG_SIZE = 7;
+    private static final int INITIAL_CAPACITY = 32; // power of two, a few bags
+    private static final int RELEASED = Integer.MAX_VALUE; // a cursor slot nobody reads from
+
+    private final boolean seeded;
+    private final long seed;
+
+    // Unseeded mode: pieces [base, end) are held at ring[index & mask]
+    private final Random random = new Random();
+    private byte[] ring = new byte[INITIAL_CAPACITY];
+    private int mask = INITIAL_CAPACITY - 1;
+    private int base = 0;
+    private int end = 0;
+    private int[] cursors = new int[0];
+    private int activeCursors = 0;
+
+    public TetrominoSpawner() {
+        this.seeded = false;
+        this.seed = 0;
+    }
+
+    public TetrominoSpawner(long seed) {
+        this.seeded = true;
+        this.seed = seed;
+    }
+
+    public boolean isSeeded() {
+        return seeded;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Type of piece {@code index} in the sequence for {@code seed}: a Fisher-Yates shuffle of
+     * bag index / 7, driven by a SplitMix64 stream seeded from the seed and the bag number.
+     * The bag number is mixed before it meets the seed; stepping it by the stream's own
+     * increment would start each bag one step into the previous bag's stream.
+     * The bag is packed 3 bits per slot in an int, so this is constant time and allocation free.
+     */
+    public static int typeAt(long seed, int index) {
+        int bag = index / BAG_SIZE;
+        int slot = index % BAG_SIZE;
+        long state = mix(seed ^ mix(bag));
+
+        int packed = 0;
+        for (int i = 0; i < BAG_SIZE; i++) {
+            packed |= i << (3 * i);
+        }
+        for (int i = BAG_SIZE - 1; i > 0; i--) {
+            state += 0x9E3779B97F4A7C15L;
+            int j = (int) Long.remainderUnsigned(mix(state), i + 1);
+            int a = (packed >>> (3 * i)) & 7;
+            int b = (packed >>> (3 * j)) & 7;
+            packed &= ~((7 << (3 * i)) | (7 << (3 * j)));
+            packed |= (b << (3 * i)) | (a << (3 * j));
+        }
+        return (packed >>> (3 * slot)) & 7;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /** Registers a reader starting at the oldest piece still held and returns its cursor id. */
+    public int registerCursor() {
+        activeCursors++;
+        for (int i = 0; i < cursors.length; i++) {
+            if (cursors[i] == RELEASED) {
+                cursors[i] = base;
+                return i;
+            }
+        }
+        int[] grown = new int[cursors.length + 1];
+        System.arraycopy(cursors, 0, grown, 0, cursors.length);
+        grown[cursors.length] = base;
+        cursors = grown;
+        return cursors.length - 1;
+    }
+
+    /** Drops a reader that is done, such as the board of a finished game, so it no longer holds pieces back. */
+    public void unregisterCursor(int cursor) {
+        if (cursor < 0 || cursor >= cursors.length || cursors[cursor] == RELEASED) {
+            return;
+        }
+        cursors[cursor] = RELEASED;
+        activeCursors--;
+        releaseBelowSlowest();
+    }
+
+    /** Tells the spawner that {@code cursor} will not ask for pieces below {@code index} again. */
+    public void advanceCursor(int cursor, int index) {
+        if (seeded || cursor < 0 || cursor >= cursors.length || cursors[cursor] == RELEASED) {
+            return;
+        }
+        cursors[cursor] = index;
+        releaseBelowSlowest();
+    }
+
+    /** Number of pieces currently held, for unseeded spawners. */
+    public int heldPieces() {
+        return end - base;
+    }
+
+    // Size of the ring buffer, for tests
+    int capacity() {
+        return ring.length;
+    }
+
+    private void releaseBelowSlowest() {
+        if (seeded || activeCursors == 0) {
+            return; // with no readers left fillBag keeps a sliding window instead
+        }
+        int slowest = Integer.MAX_VALUE;
+        for (int position : cursors) { // one per board sharing the spawner
+            slowest = Math.min(slowest, position);
+        }
+        base = Math.max(base, Math.min(slowest, end));
+    }
+
+    public int typeAt(int index) {
+        if (seeded) {
+            return typeAt(seed, index);
+        }
+        if (index < base) {
+            throw new IndexOutOfBoundsException("Piece " + index + " was already released, oldest is " + base);
+        }
+        while (index >= end) {
+            fillBag();
+        }
+        return ring[index & mask];
+    }
+
+    public Tetromino getTetromino(int index) {
+        return new Tetromino(typeAt(index));
+    }
+
+    public Tetromino peekNextTetromino(int index) {
+        return new Tetromino(typeAt(index));
+    }
+
+    private void fillBag() {
+        if (activeCursors == 0) {
+            // Nobody reports progress, keep a sliding window of the newest pieces
+            base = Math.max(base, end + BAG_SIZE - ring.length);
+        }
+        if (end + BAG_SIZE - base > ring.length) {
+            grow();
+        }
+        for (int i = 0; i < BAG_SIZE; i++) {
+            ring[(end + i) & mask] = (byte) i;
+        }
+        for (int i = BAG_SIZE - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            byte swap = ring[(end + i) & mask];
+            ring[(end + i) & mask] = ring[(end + j) & mask];
+            ring[(end + j) & mask] = swap;
+        }
+        end += BAG_SIZE;
+    }
+
+    // Only when one reader is more than the current capacity ahead of another
+    private void grow() {
+        byte[] grown = new byte[ring.length * 2];
+        int grownMask = grown.length - 1;
+        for (int index = base; index < end; index++) {
+            grown[index & grownMask] = ring[index & mask];
+        }
+        ring = grown;
+        mask = grownMask;
+    }
+}
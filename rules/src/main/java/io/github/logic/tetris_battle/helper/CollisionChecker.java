@@ -0,0 +1,55 @@
+package io.github.logic.tetris_battle.helper;
+
+import io.github.logic.tetris_battle.board.BitBoard;
+import io.github.logic.tetris_battle.board.Board;
+import io.github.logic.tetris_battle.board.Tetromino;
+import io.github.logic.tetris_battle.board.TetrominoShapes;
+
+public class CollisionChecker {
+    private static CollisionChecker instance;
+
+    public static CollisionChecker getInstance() {
+        if (instance == null)
+            instance = new CollisionChecker();
+        return instance;
+    }
+
+    public boolean checkCollision(Tetromino piece, Board board) {
+        if (piece == null || board == null) {
+            return true;
+        }
+        return checkCollision(piece.getType(), piece.getRotationState(), piece.getRow(), piece.getCol(), board.getCells());
+    }
+
+    /**
+     * Whether a piece of {@code type} in {@code rotation} at (row, col) would hit a wall, the
+     * floor or a filled cell. Reads the shared shape masks only, so trying a move allocates nothing.
+     */
+    public boolean checkCollision(int type, int rotation, int row, int col, BitBoard cells) {
+        int[] masks = TetrominoShapes.rowMasks(type, rotation);
+        int fullRowMask = cells.getFullRowMask();
+        for (int i = 0; i < masks.length; i++) {
+            int bits = masks[i];
+            if (bits == 0) {
+                continue;
+            }
+
+            // Blocks past the left or right wall
+            if (col < 0 ? (bits & ((1 << -col) - 1)) != 0 : ((bits << col) & ~fullRowMask) != 0) {
+                return true;
+            }
+            int blockRow = row + i;
+            if (blockRow < 0) {
+                return true;
+            }
+            if (blockRow >= cells.getRows()) {
+                continue;
+            }
+            int rowBits = col < 0 ? bits >>> -col : bits << col;
+            if ((cells.getRowMask(blockRow) & rowBits) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
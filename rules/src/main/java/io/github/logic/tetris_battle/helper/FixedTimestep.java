@@ -0,0 +1,43 @@
+package io.github.logic.tetris_battle.helper;
+
+/**
+ * Turns variable frame times into a whole number of fixed simulation steps. The game advances
+ * by the same step on every machine whatever the frame rate, and the time left over is exposed
+ * as {@link #getAlpha()} so rendering can blend between the last two simulated states.
+ */
+public class FixedTimestep {
+    public static final float DEFAULT_STEP = 1f / 60f;
+    // A long hitch (window dragged, debugger) is not caught up in one burst of steps
+    private static final float MAX_FRAME = 0.25f;
+
+    private final float step;
+    private float accumulator = 0f;
+
+    public FixedTimestep() {
+        this(DEFAULT_STEP);
+    }
+
+    public FixedTimestep(float step) {
+        this.step = step;
+    }
+
+    public float getStep() {
+        return step;
+    }
+
+    /** Adds a frame's time and returns how many steps should run now. */
+    public int advance(float frameDelta) {
+        accumulator += Math.min(frameDelta, MAX_FRAME);
+        int steps = 0;
+        while (accumulator >= step) {
+            accumulator -= step;
+            steps++;
+        }
+        return steps;
+    }
+
+    /** How far into the next step the frame is, from 0 to 1. */
+    public float getAlpha() {
+        return accumulator / step;
+    }
+}
@@ -1,12 +1,8 @@
 package io.github.logic.tetris_battle.score;
 
-import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-
 public class HealthBar {
     private float pivot = 50f; // 50% is neutral
     private int width = 300;   // Default width
-    private float borderThickness = 4f;
     private float lastScore = 0f;
 
     public void setWidth(int width) {
@@ -46,27 +42,4 @@ public class HealthBar {
         if (pivot < 0) pivot = 0;
         if (pivot > 100) pivot = 100;
     }
-
-    public void draw(ShapeRenderer shapeRenderer, int posX, int posY) {
-        // Draw the black border (background)
-        shapeRenderer.setColor(Color.BLACK);
-        shapeRenderer.rect(
-            posX - borderThickness,
-            posY - borderThickness,
-            width + borderThickness * 2,
-            30 + borderThickness * 2
-        );
-
-        // Background bar (grey)
-        shapeRenderer.setColor(Color.DARK_GRAY);
-        shapeRenderer.rect(posX, posY, width, 30);
-
-        // Green side (left player's health)
-        shapeRenderer.setColor(Color.GREEN);
-        shapeRenderer.rect(posX, posY, (pivot / 100f) * width, 30);
-
-        // Red side (right player's pushback)
-        shapeRenderer.setColor(Color.RED);
-        shapeRenderer.rect(posX + (pivot / 100f) * width, posY, width - (pivot / 100f) * width, 30);
-    }
 }
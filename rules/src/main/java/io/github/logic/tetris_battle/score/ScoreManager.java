@@ -1,6 +1,5 @@
 package io.github.logic.tetris_battle.score;
 
-import com.badlogic.gdx.Gdx;
 import io.github.logic.utils.Side;
 
 public class ScoreManager {
@@ -22,7 +21,6 @@ public class ScoreManager {
         if (doubleDamage) {
             score *= 2;
         }
-        Gdx.app.log("ScoreManager", "Score: " + score);
         if (healthBar != null) {
             if (this.side == Side.LEFT) {
                 healthBar.pushRight(score);
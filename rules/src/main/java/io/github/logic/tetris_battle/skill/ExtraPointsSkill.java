@@ -1,7 +1,6 @@
 package io.github.logic.tetris_battle.skill;
 
 import io.github.logic.tetris_battle.score.ScoreManager;
-import io.github.logic.utils.AudioManager;
 import io.github.logic.utils.SkillConfigs;
 
 public class ExtraPointsSkill extends Skill {
@@ -36,7 +35,7 @@ public class ExtraPointsSkill extends Skill {
             active = true;
             activeTimer = getEffectingTime();
             // Play skill activation sound
-            AudioManager.getInstance().playSkillActivate();
+            listener.onSkillActivated(this);
             scoreManager.setDoubleDamage(true);
         }
     }
@@ -6,11 +6,16 @@ public abstract class Skill {
     private float currentCooldown = 0f;
     private float effectingTime;
     protected float activeTimer = 0f; // Timer để đếm thời gian skill đang active
+    protected SkillListener listener = SkillListener.NONE;
 
     public Skill(float cooldownTime) {
         this.cooldownTime = cooldownTime;
     }
 
+    public void setListener(SkillListener listener) {
+        this.listener = listener != null ? listener : SkillListener.NONE;
+    }
+
     public void update(float delta) {
         if (currentCooldown > 0) {
             currentCooldown -= delta;
@@ -0,0 +1,13 @@
+package io.github.logic.tetris_battle.skill;
+
+/**
+ * Side effects of a {@link Skill} that are not game rules, such as the activation sound on the
+ * client. Skills start with {@link #NONE}.
+ */
+public interface SkillListener {
+    SkillListener NONE = new SkillListener() {
+    };
+
+    default void onSkillActivated(Skill skill) {
+    }
+}
@@ -22,6 +22,8 @@ public class Messages {
     public static final String ROOM_CREATED = "room_created";
     public static final String NO_CONN = "no_conn";
     public static final String CONN = "conn";
+    public static final String HELLO = "hello";
+    public static final String HELLO_OK = "hello_ok";
     public static final String ROOM_FULL = "room_full";
     public static final String ROOM_NOT_FOUND = "room_not_found";
     public static final String REQUEST_PIECE = "request_piece";
@@ -35,4 +37,12 @@ public class Messages {
     public static final String UNLOCK_PLAYER = "unlock_player";
 
     public static final String OPPONENT_WIN = "opponent_win";
+
+    // Server-authoritative rooms: sent before game_start, then clients send input:<action>:<seq>
+    public static final String AUTHORITATIVE = "authoritative";
+    public static final String INPUT = "input";
+    public static final String INPUT_LEFT = "left";
+    public static final String INPUT_RIGHT = "right";
+    public static final String INPUT_ROTATE = "rotate";
+    public static final String INPUT_DROP = "drop";
 }
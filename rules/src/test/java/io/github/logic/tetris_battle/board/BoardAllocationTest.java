@@ -0,0 +1,48 @@
+package io.github.logic.tetris_battle.board;
+
+import io.github.logic.utils.Side;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class BoardAllocationTest {
+    private static final int WARMUP_ROUNDS = 20_000;
+    private static final int MEASURED_ROUNDS = 5_000;
+    // Room for the measuring calls themselves, far below one allocation per move
+    private static final long ALLOWED_BYTES = 1024;
+
+    @Test
+    public void movesAndRotationsDoNotAllocate() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        Board board = new Board(20, 10, Side.LEFT, new TetrominoSpawner(7L), null, null);
+        board.spawnPiece();
+        assertNotNull(board.getCurrentRunningPiece());
+
+        play(board, WARMUP_ROUNDS); // let the JIT settle first
+        long thread = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(thread);
+        play(board, MEASURED_ROUNDS);
+        long allocated = threads.getThreadAllocatedBytes(thread) - before;
+
+        assertNotNull("the piece never locks from sideways moves", board.getCurrentRunningPiece());
+        assertTrue(allocated + " bytes allocated over " + MEASURED_ROUNDS + " rounds", allocated < ALLOWED_BYTES);
+    }
+
+    // Sweeps the piece against both walls and through every rotation
+    private static void play(Board board, int rounds) {
+        for (int i = 0; i < rounds; i++) {
+            int dir = (i / 8) % 2 == 0 ? -1 : 1;
+            board.movePiece(dir);
+            board.rotatePiece();
+        }
+    }
+}
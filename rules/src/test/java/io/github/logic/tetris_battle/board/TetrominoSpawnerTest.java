@@ -0,0 +1,154 @@
+package io.github.logic.tetris_battle.board;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TetrominoSpawnerTest {
+    private static final int PIECES = 1_000_000;
+    private static final int GAP = 10_000;
+
+    @Test
+    public void cursorsFarApartSeeTheSameSequence() {
+        TetrominoSpawner spawner = new TetrominoSpawner();
+        int leader = spawner.registerCursor();
+        int follower = spawner.registerCursor();
+
+        byte[] seen = new byte[PIECES];
+        for (int i = 0; i < PIECES + GAP; i++) {
+            if (i < PIECES) {
+                seen[i] = (byte) spawner.typeAt(i);
+                spawner.advanceCursor(leader, i);
+            }
+            int behind = i - GAP;
+            if (behind >= 0) {
+                assertEquals("piece " + behind, seen[behind], spawner.typeAt(behind));
+                spawner.advanceCursor(follower, behind);
+            }
+            assertTrue("held " + spawner.heldPieces() + " at " + i, spawner.heldPieces() <= GAP + 2 * 7);
+        }
+    }
+
+    @Test
+    public void bufferStaysBoundedOnceBothCursorsPass() {
+        TetrominoSpawner spawner = new TetrominoSpawner();
+        int first = spawner.registerCursor();
+        int second = spawner.registerCursor();
+
+        for (int i = 0; i < GAP; i++) {
+            spawner.typeAt(i);
+            spawner.advanceCursor(first, i);
+        }
+        int grownTo = spawner.capacity();
+        assertTrue(grownTo >= GAP);
+
+        for (int i = 0; i < PIECES; i++) {
+            spawner.typeAt(i);
+            spawner.advanceCursor(second, i);
+            if (i >= GAP) {
+                spawner.typeAt(i);
+                spawner.advanceCursor(first, i);
+            }
+        }
+        assertTrue(spawner.heldPieces() <= 7);
+        assertEquals("the ring is reused, not grown further", grownTo, spawner.capacity());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void typeAtBelowTheOldestHeldPieceThrows() {
+        TetrominoSpawner spawner = new TetrominoSpawner();
+        int cursor = spawner.registerCursor();
+        for (int i = 0; i < 100; i++) {
+            spawner.typeAt(i);
+        }
+        spawner.advanceCursor(cursor, 50);
+        spawner.typeAt(49);
+    }
+
+    @Test
+    public void unregisteredCursorNoLongerHoldsPiecesBack() {
+        TetrominoSpawner spawner = new TetrominoSpawner();
+        int stalled = spawner.registerCursor();
+        int running = spawner.registerCursor();
+
+        for (int i = 0; i < GAP; i++) {
+            spawner.typeAt(i);
+            spawner.advanceCursor(running, i);
+        }
+        assertTrue(spawner.heldPieces() >= GAP);
+
+        spawner.unregisterCursor(stalled);
+        assertTrue(spawner.heldPieces() <= 7);
+        try {
+            spawner.typeAt(0);
+            fail("piece 0 should have been released");
+        } catch (IndexOutOfBoundsException expected) {
+        }
+
+        // A new reader takes the free slot and starts at the oldest piece still held
+        int joined = spawner.registerCursor();
+        assertEquals(stalled, joined);
+        spawner.typeAt(GAP - 1);
+    }
+
+    @Test
+    public void lastCursorGoneKeepsASlidingWindow() {
+        TetrominoSpawner spawner = new TetrominoSpawner();
+        int cursor = spawner.registerCursor();
+        spawner.typeAt(0);
+        spawner.unregisterCursor(cursor);
+        spawner.unregisterCursor(cursor); // twice is harmless
+
+        for (int i = 0; i < PIECES; i++) {
+            spawner.typeAt(i);
+        }
+        assertTrue(spawner.heldPieces() <= spawner.capacity());
+        assertTrue(spawner.capacity() <= 64);
+    }
+
+    @Test
+    public void seededBagsHoldEachTypeOnce() {
+        for (int bag = 0; bag < 10_000; bag++) {
+            int seen = 0;
+            for (int slot = 0; slot < 7; slot++) {
+                seen |= 1 << TetrominoSpawner.typeAt(42L, bag * 7 + slot);
+            }
+            assertEquals("bag " + bag, 0x7F, seen);
+        }
+    }
+
+    @Test
+    public void consecutiveSeededBagsLookIndependent() {
+        int bags = 100_000;
+        for (long seed : new long[] {0L, 42L, -7L, 123456789L}) {
+            // Pairs of (slot k of bag b, slot k of bag b + 1) over all 49 combinations
+            int[][] pairs = new int[7][7];
+            int samples = 0;
+            for (int bag = 0; bag + 1 < bags; bag++) {
+                int slot = bag % 7;
+                pairs[TetrominoSpawner.typeAt(seed, bag * 7 + slot)][TetrominoSpawner.typeAt(seed, (bag + 1) * 7 + slot)]++;
+                samples++;
+            }
+            double expected = samples / 49.0;
+            double chiSquare = 0;
+            for (int[] row : pairs) {
+                for (int count : row) {
+                    chiSquare += (count - expected) * (count - expected) / expected;
+                }
+            }
+            // 48 degrees of freedom, 90 is far in the tail (p < 0.001)
+            assertTrue("seed " + seed + " chi-square " + chiSquare, chiSquare < 90);
+        }
+    }
+
+    @Test
+    public void seededSpawnersAgreeWithoutSharingState() {
+        TetrominoSpawner a = new TetrominoSpawner(42L);
+        TetrominoSpawner b = new TetrominoSpawner(42L);
+        for (int i = PIECES - 1; i >= 0; i -= 997) {
+            assertEquals(a.typeAt(i), b.typeAt(i));
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package io.github.server.room;
+
+import io.github.logic.utils.Messages;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Command dispatch of {@link RoomManager#handleInput}: the prefix matching of
+ * {@link CommandParser} against the String.split it replaced. Both only classify the line and
+ * pull out the arguments a handler would use, nothing is sent. Run with
+ * {@code ./gradlew :server:jmh -PjmhInclude=CommandParserBenchmark} and add
+ * {@code -prof gc} to the JMH arguments to compare allocation per line.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommandParserBenchmark {
+    @Param({"game_state", "request_piece", "input", "join", "unknown"})
+    public String kind;
+
+    private String line;
+
+    @Setup
+    public void setUp() {
+        switch (kind) {
+        case "game_state":
+            line = Messages.GAME_STATE + ":{\"roomId\":\"a1b2c3\",\"player\":{\"grid\":[[-1,-1,-1,2,2,-1,-1,-1,-1,-1]],"
+                + "\"pieceIndex\":42,\"health\":50.0,\"changedRows\":1,\"changedPieces\":0},\"ack\":17,\"lastReceivedAck\":16,\"baseAck\":15}";
+            break;
+        case "request_piece":
+            line = Messages.REQUEST_PIECE + ":1234";
+            break;
+        case "input":
+            line = Messages.INPUT + ":" + Messages.INPUT_LEFT + ":57";
+            break;
+        case "join":
+            line = Messages.JOIN + ":a1b2c3:bob";
+            break;
+        default:
+            line = "lock_player";
+            break;
+        }
+    }
+
+    @Benchmark
+    public Object prefixDispatch() {
+        int end = CommandParser.commandEnd(line);
+        if (CommandParser.is(line, end, Messages.GAME_STATE)) {
+            return Messages.GAME_STATE;
+        }
+        if (CommandParser.is(line, end, Messages.INPUT)) {
+            return CommandParser.argumentIs(line, 1, Messages.INPUT_LEFT) ? CommandParser.intArgument(line, 2) : -1;
+        }
+        if (CommandParser.is(line, end, Messages.CREATE) || CommandParser.is(line, end, Messages.AUTO)) {
+            return CommandParser.argument(line, 1);
+        }
+        if (CommandParser.is(line, end, Messages.JOIN)) {
+            String roomId = CommandParser.argument(line, 1);
+            String name = CommandParser.argument(line, 2);
+            return roomId != null && name != null ? name : null;
+        }
+        if (CommandParser.is(line, end, Messages.ACCEPT)) {
+            return CommandParser.argument(line, 1);
+        }
+        if (CommandParser.is(line, end, Messages.LEAVE) || CommandParser.is(line, end, Messages.START)) {
+            return Messages.LEAVE;
+        }
+        if (CommandParser.is(line, end, Messages.REQUEST_PIECE)) {
+            return CommandParser.intArgument(line, 1);
+        }
+        return line; // relayed as is
+    }
+
+    @Benchmark
+    public Object splitDispatch() {
+        String[] parts = line.split(Messages.SEPARATOR);
+        switch (parts[0]) {
+        case Messages.GAME_STATE:
+            return Messages.GAME_STATE;
+        case Messages.INPUT:
+            return parts[1].equals(Messages.INPUT_LEFT) ? Integer.parseInt(parts[2]) : -1;
+        case Messages.CREATE:
+        case Messages.AUTO:
+        case Messages.ACCEPT:
+            return parts[1];
+        case Messages.JOIN:
+            return parts[2];
+        case Messages.LEAVE:
+        case Messages.START:
+            return Messages.LEAVE;
+        case Messages.REQUEST_PIECE:
+            return Integer.parseInt(parts[1]);
+        default:
+            return line;
+        }
+    }
+}
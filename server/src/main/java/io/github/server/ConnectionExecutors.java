@@ -0,0 +1,15 @@
+package io.github.server;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Executors for blocking-mode connections. This is the Java 8 version; the server jar is
+ * multi-release and ships a Java 21 override in src/main/java21 that uses virtual threads.
+ */
+public class ConnectionExecutors {
+    public static ExecutorService newVirtualThreadPerTaskExecutor() {
+        System.err.println("Virtual threads need Java 21+, using a cached thread pool instead.");
+        return Executors.newCachedThreadPool();
+    }
+}
@@ -0,0 +1,120 @@
+package io.github.server;
+
+import io.github.server.nio.NioServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class NetworkManager {
+    private final ServerMode mode;
+    private ServerSocket serverSocket;
+    private NioServer nioServer;
+    private final ExecutorService clientPool;
+    private Timer metricsTimer;
+    private boolean isRunning = true;
+
+    public NetworkManager() {
+        this(ServerMode.BLOCKING);
+    }
+
+    public NetworkManager(ServerMode mode) {
+        this.mode = mode;
+        this.clientPool = mode == ServerMode.VIRTUAL
+            ? ConnectionExecutors.newVirtualThreadPerTaskExecutor()
+            : Executors.newCachedThreadPool();
+    }
+
+    public void startServer(int port) {
+        startMetricsLog();
+        if (mode == ServerMode.NIO) {
+            startNioServer(port);
+            return;
+        }
+
+        try {
+            serverSocket = new ServerSocket(port);
+            System.out.println("Server started on port: " + port + " (" + mode.name().toLowerCase() + ")");
+
+            while (isRunning) {
+                try {
+                    Socket clientSocket = serverSocket.accept();
+                    System.out.println("Client connected: " + clientSocket.getInetAddress());
+                    SocketPlayerConnection connection = new SocketPlayerConnection(clientSocket);
+                    clientPool.execute(connection);
+                    clientPool.execute(connection.writer());
+                } catch (IOException e) {
+                    if (isRunning) {
+                        System.err.println("Error accepting client: " + e.getMessage());
+                    }
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to start server: " + e.getMessage());
+        } finally {
+            stopServer();
+        }
+    }
+
+    private void startNioServer(int port) {
+        try {
+            nioServer = new NioServer(ServerConfigs.ioThreads());
+            nioServer.start(port);
+        } catch (IOException e) {
+            System.err.println("Failed to start server: " + e.getMessage());
+        } finally {
+            stopServer();
+        }
+    }
+
+    private void startMetricsLog() {
+        int seconds = ServerConfigs.metricsIntervalSeconds();
+        if (seconds <= 0) {
+            return;
+        }
+        metricsTimer = new Timer("server-metrics", true);
+        metricsTimer.scheduleAtFixedRate(new TimerTask() {
+            @Override
+            public void run() {
+                System.out.println("Metrics: " + ServerMetrics.getInstance().report());
+            }
+        }, seconds * 1000L, seconds * 1000L);
+    }
+
+    public void stopServer() {
+        isRunning = false;
+        if (metricsTimer != null) {
+            metricsTimer.cancel();
+        }
+        if (nioServer != null) {
+            nioServer.stop();
+        }
+        try {
+            if (serverSocket != null && !serverSocket.isClosed()) {
+                serverSocket.close();
+                System.out.println("Server stopped.");
+            }
+        } catch (IOException e) {
+            System.err.println("Error closing server: " + e.getMessage());
+        } finally {
+            clientPool.shutdown();
+        }
+    }
+
+    public static void main(String[] args) {
+        String modeValue = System.getProperty(ServerConfigs.MODE_PROPERTY);
+        int port = ServerConfigs.DEFAULT_PORT;
+        for (String arg : args) {
+            if (arg.startsWith("--mode=")) {
+                modeValue = arg.substring("--mode=".length());
+            } else {
+                port = Integer.parseInt(arg);
+            }
+        }
+        new NetworkManager(ServerMode.parse(modeValue)).startServer(port);
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.server;
+
+import io.github.logic.net.ByteWriter;
+import io.github.logic.net.Protocol;
+import io.github.logic.utils.Messages;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A line or frame encoded once and shared by every recipient. The bytes are never modified
+ * after construction; each connection reads them through its own buffer view.
+ */
+public final class OutboundMessage {
+    private static final String GAME_STATE_PREFIX = Messages.GAME_STATE + Messages.SEPARATOR;
+
+    private final byte[] bytes;
+    private final boolean gameState;
+
+    private OutboundMessage(byte[] bytes, boolean gameState) {
+        this.bytes = bytes;
+        this.gameState = gameState;
+    }
+
+    public static OutboundMessage line(String msg) {
+        return new OutboundMessage((msg + "\n").getBytes(StandardCharsets.UTF_8), msg.startsWith(GAME_STATE_PREFIX));
+    }
+
+    public static OutboundMessage frame(int type, byte[] payload, int offset, int length) {
+        return new OutboundMessage(Protocol.encodeFrame(type, payload, offset, length), type == Protocol.FRAME_GAME_STATE);
+    }
+
+    /** Game states are superseded by the next one and may be dropped under backpressure. */
+    public boolean isGameState() {
+        return gameState;
+    }
+
+    public int size() {
+        return bytes.length;
+    }
+
+    /** A fresh read-only view positioned at the start, one per recipient. */
+    public ByteBuffer buffer() {
+        return ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(bytes);
+    }
+
+    public void writeTo(ByteWriter writer) {
+        writer.writeBytes(bytes, 0, bytes.length);
+    }
+}
@@ -0,0 +1,150 @@
+package io.github.server;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded queue of messages waiting to be written to one connection. Producers are room
+ * threads, the single consumer is the connection's writer (blocking mode) or event loop (NIO),
+ * which drains everything queued so far and writes it in one go.
+ */
+public class OutboundQueue {
+    public enum Result {
+        QUEUED,
+        DROPPED,  // the message was a game state and was dropped under the overflow policy
+        OVERFLOW  // queue is full and the connection should be closed
+    }
+
+    private final int maxMessages;
+    private final int maxBytes;
+    private final OverflowPolicy policy;
+    private final ServerMetrics metrics = ServerMetrics.getInstance();
+
+    // ReentrantLock rather than synchronized so a waiting virtual thread does not pin its carrier
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final ArrayDeque<OutboundMessage> messages = new ArrayDeque<>();
+    private int bytes = 0;
+    private boolean closed = false;
+
+    public OutboundQueue() {
+        this(ServerConfigs.OUTBOUND_MAX_MESSAGES, ServerConfigs.OUTBOUND_MAX_BYTES, ServerConfigs.overflowPolicy());
+    }
+
+    public OutboundQueue(int maxMessages, int maxBytes, OverflowPolicy policy) {
+        this.maxMessages = maxMessages;
+        this.maxBytes = maxBytes;
+        this.policy = policy;
+    }
+
+    public Result offer(OutboundMessage message) {
+        lock.lock();
+        try {
+            if (closed) {
+                return Result.DROPPED;
+            }
+            if (isFull(message)) {
+                if (policy == OverflowPolicy.DISCONNECT) {
+                    return Result.OVERFLOW;
+                }
+                // Every queued game state is older than the one being sent now, so they can go
+                dropGameStates();
+                if (isFull(message)) {
+                    if (message.isGameState()) {
+                        metrics.onDropped(1);
+                        return Result.DROPPED;
+                    }
+                    return Result.OVERFLOW;
+                }
+            }
+            messages.addLast(message);
+            bytes += message.size();
+            metrics.onQueued(messages.size());
+            notEmpty.signal();
+            return Result.QUEUED;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Moves everything queued into {@code into} without waiting. Returns the number moved. */
+    public int drainTo(Collection<OutboundMessage> into) {
+        lock.lock();
+        try {
+            return drainLocked(into);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until something is queued and moves all of it into {@code into}.
+     * Returns 0 once the queue is closed and empty.
+     */
+    public int awaitAndDrain(Collection<OutboundMessage> into) throws InterruptedException {
+        lock.lock();
+        try {
+            while (messages.isEmpty() && !closed) {
+                notEmpty.await();
+            }
+            return drainLocked(into);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int depth() {
+        lock.lock();
+        try {
+            return messages.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            metrics.onDequeued(messages.size());
+            messages.clear();
+            bytes = 0;
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isFull(OutboundMessage message) {
+        return messages.size() >= maxMessages || bytes + message.size() > maxBytes;
+    }
+
+    private void dropGameStates() {
+        int dropped = 0;
+        Iterator<OutboundMessage> it = messages.iterator();
+        while (it.hasNext()) {
+            OutboundMessage queued = it.next();
+            if (queued.isGameState()) {
+                it.remove();
+                bytes -= queued.size();
+                dropped++;
+            }
+        }
+        if (dropped > 0) {
+            metrics.onDequeued(dropped);
+            metrics.onDropped(dropped);
+        }
+    }
+
+    private int drainLocked(Collection<OutboundMessage> into) {
+        int count = messages.size();
+        into.addAll(messages);
+        messages.clear();
+        bytes = 0;
+        metrics.onDequeued(count);
+        return count;
+    }
+}
@@ -0,0 +1,7 @@
+package io.github.server;
+
+/** What a connection does when its outbound queue is full. */
+public enum OverflowPolicy {
+    DROP_GAME_STATE, // drop queued game states, they are superseded by newer ones anyway
+    DISCONNECT       // treat the client as too slow and close it
+}
@@ -0,0 +1,59 @@
+package io.github.server;
+import io.github.logic.net.MessageHandler;
+import io.github.logic.net.Protocol;
+import io.github.logic.utils.Messages;
+import io.github.server.room.Room;
+import io.github.server.room.RoomManager;
+
+/**
+ * A connected player as seen by the room layer. Transports (blocking socket or NIO channel)
+ * subclass this and feed every decoded line or frame into it.
+ */
+public abstract class PlayerConnection implements MessageHandler {
+    public Room currentRoom;
+    public String name;
+    public boolean isApproved = false;
+    // Set once the client negotiated binary frames with hello:<version>
+    public volatile boolean binaryProtocol = false;
+
+    public void send(String msg) {
+        send(OutboundMessage.line(msg));
+    }
+
+    /** Queues or writes an already encoded line or frame, which may be shared with other players. */
+    public abstract void send(OutboundMessage message);
+
+    /** Messages queued for this player that have not been handed to the socket yet. */
+    public abstract int getQueueDepth();
+
+    @Override
+    public void onLine(String input) {
+        if (input.equals("ping")) {
+            this.send("pong");
+        } else if (input.startsWith(Messages.HELLO + Messages.SEPARATOR)) {
+            negotiate(input.substring(Messages.HELLO.length() + Messages.SEPARATOR.length()));
+        } else {
+            RoomManager.getInstance().handleInput(this, input);
+        }
+    }
+
+    @Override
+    public void onFrame(int type, byte[] payload, int offset, int length) {
+        RoomManager.getInstance().handleFrame(this, type, payload, offset, length);
+    }
+
+    private void negotiate(String clientVersion) {
+        int version;
+        try {
+            version = Math.min(Integer.parseInt(clientVersion), Protocol.VERSION);
+        } catch (NumberFormatException e) {
+            version = 0;
+        }
+        binaryProtocol = version == Protocol.VERSION;
+        send(Messages.HELLO_OK + Messages.SEPARATOR + version);
+    }
+
+    protected void handleDisconnect() {
+        RoomManager.getInstance().handleInput(this, "leave");
+    }
+}
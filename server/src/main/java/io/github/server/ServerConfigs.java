@@ -0,0 +1,58 @@
+package io.github.server;
+
+import io.github.logic.net.Protocol;
+
+public class ServerConfigs {
+    public static final int DEFAULT_PORT = 5000;
+
+    // Can be overridden with -Dtetris.server.mode=nio or the --mode=nio argument
+    public static final String MODE_PROPERTY = "tetris.server.mode";
+    public static final String IO_THREADS_PROPERTY = "tetris.server.ioThreads";
+    public static final String OVERFLOW_POLICY_PROPERTY = "tetris.server.overflowPolicy";
+    public static final String METRICS_INTERVAL_PROPERTY = "tetris.server.metricsSeconds";
+    public static final String AUTHORITATIVE_PROPERTY = "tetris.server.authoritative";
+    public static final String SIMULATION_THREADS_PROPERTY = "tetris.server.simulationThreads";
+
+    public static final int READ_BUFFER_SIZE = 8 * 1024;
+    public static final int MAX_LINE_LENGTH = 64 * 1024;
+
+    // Per-connection outbound queue limits, whichever is hit first counts as full
+    public static final int OUTBOUND_MAX_MESSAGES = Integer.getInteger("tetris.server.outboundMessages", 256);
+    public static final int OUTBOUND_MAX_BYTES = Integer.getInteger("tetris.server.outboundBytes", 512 * 1024);
+
+    // Server-side simulation of both boards, off unless -Dtetris.server.authoritative=true
+    public static final int SIMULATION_ROWS = Protocol.BOARD_ROWS;
+    public static final int SIMULATION_COLS = Protocol.BOARD_COLS;
+    public static final int SIMULATION_TICK_MILLIS = Integer.getInteger("tetris.server.tickMillis", 50);
+
+    public static boolean authoritative() {
+        return Boolean.getBoolean(AUTHORITATIVE_PROPERTY);
+    }
+
+    public static int simulationThreads() {
+        int threads = Integer.getInteger(SIMULATION_THREADS_PROPERTY, Runtime.getRuntime().availableProcessors() / 2);
+        return Math.max(1, threads);
+    }
+
+    public static OverflowPolicy overflowPolicy() {
+        String value = System.getProperty(OVERFLOW_POLICY_PROPERTY);
+        if (value != null) {
+            for (OverflowPolicy policy : OverflowPolicy.values()) {
+                if (policy.name().equalsIgnoreCase(value)) {
+                    return policy;
+                }
+            }
+            System.err.println("Unknown overflow policy '" + value + "', using " + OverflowPolicy.DROP_GAME_STATE);
+        }
+        return OverflowPolicy.DROP_GAME_STATE;
+    }
+
+    public static int metricsIntervalSeconds() {
+        return Integer.getInteger(METRICS_INTERVAL_PROPERTY, 0);
+    }
+
+    public static int ioThreads() {
+        int threads = Integer.getInteger(IO_THREADS_PROPERTY, Runtime.getRuntime().availableProcessors());
+        return Math.max(1, threads);
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.server;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/** Process-wide counters for the outbound path, logged periodically by NetworkManager. */
+public class ServerMetrics {
+    private static final ServerMetrics instance = new ServerMetrics();
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicInteger maxQueueDepth = new AtomicInteger();
+    private final AtomicLong queuedMessages = new AtomicLong();
+    private final AtomicLong droppedGameStates = new AtomicLong();
+    private final AtomicLong overflowDisconnects = new AtomicLong();
+    private final AtomicLong writes = new AtomicLong();
+    private final AtomicLong bytesWritten = new AtomicLong();
+
+    public static ServerMetrics getInstance() {
+        return instance;
+    }
+
+    void onQueued(int connectionDepth) {
+        queuedMessages.incrementAndGet();
+        queueDepth.incrementAndGet();
+        int max;
+        while (connectionDepth > (max = maxQueueDepth.get())) {
+            if (maxQueueDepth.compareAndSet(max, connectionDepth)) break;
+        }
+    }
+
+    void onDequeued(int count) {
+        queueDepth.addAndGet(-count);
+    }
+
+    void onDropped(int count) {
+        droppedGameStates.addAndGet(count);
+    }
+
+    public void onOverflowDisconnect() {
+        overflowDisconnects.incrementAndGet();
+    }
+
+    public void onWrite(long bytes) {
+        writes.incrementAndGet();
+        bytesWritten.addAndGet(bytes);
+    }
+
+    public int getQueueDepth() { return queueDepth.get(); }
+    public int getMaxQueueDepth() { return maxQueueDepth.get(); }
+    public long getQueuedMessages() { return queuedMessages.get(); }
+    public long getDroppedGameStates() { return droppedGameStates.get(); }
+    public long getOverflowDisconnects() { return overflowDisconnects.get(); }
+    public long getWrites() { return writes.get(); }
+    public long getBytesWritten() { return bytesWritten.get(); }
+
+    public String report() {
+        return "queued=" + getQueuedMessages()
+            + " depth=" + getQueueDepth()
+            + " maxConnectionDepth=" + getMaxQueueDepth()
+            + " droppedGameStates=" + getDroppedGameStates()
+            + " overflowDisconnects=" + getOverflowDisconnects()
+            + " writes=" + getWrites()
+            + " bytesWritten=" + getBytesWritten();
+    }
+}
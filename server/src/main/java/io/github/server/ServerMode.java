@@ -0,0 +1,20 @@
+package io.github.server;
+
+public enum ServerMode {
+    BLOCKING, // one thread per connection, blocking reads
+    NIO,      // a few selector loops shared by all connections
+    VIRTUAL;  // blocking code, one virtual thread per connection (Java 21+)
+
+    public static ServerMode parse(String value) {
+        if (value == null) {
+            return BLOCKING;
+        }
+        for (ServerMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(value)) {
+                return mode;
+            }
+        }
+        System.err.println("Unknown server mode '" + value + "', falling back to " + BLOCKING);
+        return BLOCKING;
+    }
+}
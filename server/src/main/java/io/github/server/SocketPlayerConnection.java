@@ -0,0 +1,95 @@
+package io.github.server;
+
+import io.github.logic.net.ByteWriter;
+import io.github.logic.net.ProtocolReader;
+
+import java.io.*;
+import java.net.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A player on a blocking socket. {@link #run()} reads, while {@link #writer()} drains the
+ * outbound queue on its own thread so a slow client never blocks whoever is sending to it.
+ */
+public class SocketPlayerConnection extends PlayerConnection implements Runnable {
+    private Socket socket;
+    private ProtocolReader in;
+    private OutputStream out;
+    private final OutboundQueue outbound = new OutboundQueue();
+
+    public SocketPlayerConnection(Socket socket) throws IOException {
+        this.socket = socket;
+        in = new ProtocolReader(socket.getInputStream());
+        out = socket.getOutputStream();
+    }
+
+    public void run() {
+        try {
+            while (in.readNext(this)) {
+                // each line or frame has been dispatched by readNext
+            }
+        } catch (IOException e) {
+            System.out.println("Client disconnected: " + socket.getInetAddress());
+        } catch (RuntimeException e) {
+            System.err.println("Error handling client, closing it: " + e);
+        } finally {
+            outbound.close();
+            try {
+                socket.close();
+                System.out.println("Connection closed for: " + socket.getInetAddress());
+            } catch (IOException e) {
+                System.err.println("Error closing socket: " + e.getMessage());
+            }
+            // Even if the socket failed to close, the player must leave their room
+            handleDisconnect();
+        }
+    }
+
+    /** Writes queued messages until the connection closes, coalescing each batch into one write. */
+    public Runnable writer() {
+        return () -> {
+            List<OutboundMessage> batch = new ArrayList<>();
+            ByteWriter buffer = new ByteWriter(ServerConfigs.READ_BUFFER_SIZE);
+            try {
+                while (outbound.awaitAndDrain(batch) > 0) {
+                    buffer.reset();
+                    for (OutboundMessage message : batch) {
+                        message.writeTo(buffer);
+                    }
+                    batch.clear();
+                    buffer.writeTo(out);
+                    ServerMetrics.getInstance().onWrite(buffer.size());
+                }
+            } catch (IOException e) {
+                System.err.println("Send failed: " + e.getMessage());
+                closeSocket();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+    }
+
+    @Override
+    public void send(OutboundMessage message) {
+        if (outbound.offer(message) == OutboundQueue.Result.OVERFLOW) {
+            System.out.println("Outbound queue full, dropping slow client: " + socket.getInetAddress());
+            ServerMetrics.getInstance().onOverflowDisconnect();
+            outbound.close();
+            closeSocket(); // the reader then fails and runs the disconnect
+        }
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return outbound.depth();
+    }
+
+    private void closeSocket() {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            System.err.println("Error closing socket: " + e.getMessage());
+        }
+    }
+}
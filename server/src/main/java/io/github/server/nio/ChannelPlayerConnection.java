@@ -0,0 +1,152 @@
+package io.github.server.nio;
+
+import io.github.server.OutboundMessage;
+import io.github.server.OutboundQueue;
+import io.github.server.PlayerConnection;
+import io.github.server.ServerConfigs;
+import io.github.server.ServerMetrics;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A player served by a {@link NioEventLoop}. Reads and writes only ever happen on the owning
+ * loop thread; {@link #send(OutboundMessage)} may be called from any thread and just queues the bytes.
+ */
+public class ChannelPlayerConnection extends PlayerConnection {
+    private static final int MAX_GATHER = 64;
+
+    private final SocketChannel channel;
+    private final NioEventLoop loop;
+    private SelectionKey key;
+
+    private final MessageDecoder decoder = new MessageDecoder(ServerConfigs.MAX_LINE_LENGTH);
+
+    private final OutboundQueue outbound = new OutboundQueue();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    private volatile boolean overflowed = false;
+    // Owned by the loop thread: buffers taken from outbound that are not fully written yet
+    private final ArrayList<OutboundMessage> drained = new ArrayList<>();
+    private final ArrayDeque<ByteBuffer> writing = new ArrayDeque<>();
+    private final ByteBuffer[] gather = new ByteBuffer[MAX_GATHER];
+
+    private volatile boolean closed = false;
+
+    ChannelPlayerConnection(SocketChannel channel, NioEventLoop loop) {
+        this.channel = channel;
+        this.loop = loop;
+    }
+
+    void register(Selector selector) throws IOException {
+        key = channel.register(selector, SelectionKey.OP_READ, this);
+    }
+
+    void onReadable(ByteBuffer readBuffer) throws IOException {
+        readBuffer.clear();
+        int read = channel.read(readBuffer);
+        if (read < 0) {
+            close();
+            return;
+        }
+        readBuffer.flip();
+        decoder.decode(readBuffer, this);
+    }
+
+    void onWritable() throws IOException {
+        flush();
+    }
+
+    @Override
+    public void send(OutboundMessage message) {
+        if (closed) {
+            return;
+        }
+        if (outbound.offer(message) == OutboundQueue.Result.OVERFLOW) {
+            overflowed = true; // closed by the loop thread on its next flush
+        }
+        if (flushScheduled.compareAndSet(false, true)) {
+            loop.scheduleFlush(this);
+        }
+    }
+
+    void flush() throws IOException {
+        flushScheduled.set(false);
+        if (closed) {
+            return;
+        }
+        if (overflowed) {
+            System.out.println("Outbound queue full, dropping slow client: " + channel.socket().getInetAddress());
+            ServerMetrics.getInstance().onOverflowDisconnect();
+            close();
+            return;
+        }
+
+        while (!writing.isEmpty() || refill()) {
+            int count = 0;
+            for (ByteBuffer pending : writing) {
+                gather[count++] = pending;
+                if (count == MAX_GATHER) break;
+            }
+            long written = channel.write(gather, 0, count);
+            ServerMetrics.getInstance().onWrite(written);
+            while (!writing.isEmpty() && !writing.peek().hasRemaining()) {
+                writing.poll();
+            }
+            if (written == 0) {
+                break; // socket buffer is full, wait for OP_WRITE
+            }
+        }
+        Arrays.fill(gather, null);
+
+        if (key.isValid()) {
+            int ops = writing.isEmpty() ? SelectionKey.OP_READ : SelectionKey.OP_READ | SelectionKey.OP_WRITE;
+            if (key.interestOps() != ops) {
+                key.interestOps(ops);
+            }
+        }
+    }
+
+    // Takes the next batch only once the previous one is out, so a stalled client backs up
+    // into the bounded queue instead of into the writing deque
+    private boolean refill() {
+        if (outbound.drainTo(drained) == 0) {
+            return false;
+        }
+        for (OutboundMessage message : drained) {
+            writing.add(message.buffer());
+        }
+        drained.clear();
+        return true;
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return outbound.depth();
+    }
+
+    void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (key != null) {
+            key.cancel();
+        }
+        try {
+            System.out.println("Connection closed for: " + channel.getRemoteAddress());
+            channel.close();
+        } catch (IOException e) {
+            System.err.println("Error closing channel: " + e.getMessage());
+        }
+        outbound.close();
+        writing.clear();
+        handleDisconnect();
+    }
+}
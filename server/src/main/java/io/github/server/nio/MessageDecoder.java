@@ -0,0 +1,119 @@
+package io.github.server.nio;
+
+import io.github.logic.net.MessageHandler;
+import io.github.logic.net.Protocol;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Splits a byte stream into '\n' terminated UTF-8 lines and binary frames (see {@link Protocol}).
+ * Partial messages are kept in a reusable buffer between reads, so a message may arrive over
+ * any number of socket reads.
+ */
+public class MessageDecoder {
+    private static final int START = 0;
+    private static final int LINE = 1;
+    private static final int FRAME_LENGTH = 2;
+    private static final int FRAME_PAYLOAD = 3;
+
+    private final int maxLineLength;
+    private byte[] message = new byte[256];
+    private int length = 0;
+
+    private int state = START;
+    private int frameType;
+    private int frameLength;
+    private int lengthShift;
+
+    public MessageDecoder(int maxLineLength) {
+        this.maxLineLength = maxLineLength;
+    }
+
+    public void decode(ByteBuffer in, MessageHandler handler) throws IOException {
+        while (in.hasRemaining()) {
+            switch (state) {
+                case START: {
+                    int b = in.get() & 0xFF;
+                    if (Protocol.isFrameType(b)) {
+                        frameType = b;
+                        frameLength = 0;
+                        lengthShift = 0;
+                        state = FRAME_LENGTH;
+                    } else {
+                        length = 0;
+                        state = LINE;
+                        appendLineByte(b, handler);
+                    }
+                    break;
+                }
+                case LINE:
+                    appendLineByte(in.get() & 0xFF, handler);
+                    break;
+                case FRAME_LENGTH: {
+                    int b = in.get() & 0xFF;
+                    frameLength |= (b & 0x7F) << lengthShift;
+                    lengthShift += 7;
+                    if ((b & 0x80) == 0) {
+                        if (frameLength < 0 || frameLength > Protocol.MAX_FRAME_LENGTH) {
+                            throw new IOException("Frame exceeds " + Protocol.MAX_FRAME_LENGTH + " bytes");
+                        }
+                        ensureCapacity(frameLength);
+                        length = 0;
+                        state = FRAME_PAYLOAD;
+                        if (frameLength == 0) {
+                            finishFrame(handler);
+                        }
+                    } else if (lengthShift >= 35) {
+                        throw new IOException("Malformed frame length");
+                    }
+                    break;
+                }
+                case FRAME_PAYLOAD: {
+                    int count = Math.min(in.remaining(), frameLength - length);
+                    in.get(message, length, count);
+                    length += count;
+                    if (length == frameLength) {
+                        finishFrame(handler);
+                    }
+                    break;
+                }
+                default:
+                    throw new IllegalStateException("Unknown decoder state " + state);
+            }
+        }
+    }
+
+    private void appendLineByte(int b, MessageHandler handler) throws IOException {
+        if (b == '\n') {
+            int end = length;
+            if (end > 0 && message[end - 1] == '\r') {
+                end--;
+            }
+            String decoded = new String(message, 0, end, StandardCharsets.UTF_8);
+            length = 0;
+            state = START;
+            handler.onLine(decoded);
+            return;
+        }
+        if (length >= maxLineLength) {
+            throw new IOException("Line exceeds " + maxLineLength + " bytes");
+        }
+        ensureCapacity(length + 1);
+        message[length++] = (byte) b;
+    }
+
+    private void finishFrame(MessageHandler handler) {
+        state = START;
+        handler.onFrame(frameType, message, 0, frameLength);
+        length = 0;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > message.length) {
+            message = Arrays.copyOf(message, Math.max(capacity, message.length * 2));
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package io.github.server.nio;
+
+import io.github.server.ServerConfigs;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * One selector thread serving many connections. Incoming lines are dispatched into the room
+ * layer on this thread, and every connection that queued output during an iteration is flushed
+ * once at the end of it.
+ */
+public class NioEventLoop implements Runnable {
+    private final Selector selector;
+    private final Queue<ChannelPlayerConnection> registrations = new ConcurrentLinkedQueue<>();
+    private final Queue<ChannelPlayerConnection> flushes = new ConcurrentLinkedQueue<>();
+    private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(ServerConfigs.READ_BUFFER_SIZE);
+    private volatile boolean isRunning = true;
+    private Thread thread;
+
+    public NioEventLoop() throws IOException {
+        selector = Selector.open();
+    }
+
+    public void start(String name) {
+        thread = new Thread(this, name);
+        thread.start();
+    }
+
+    public void register(SocketChannel channel) throws IOException {
+        channel.configureBlocking(false);
+        channel.socket().setTcpNoDelay(true);
+        registrations.offer(new ChannelPlayerConnection(channel, this));
+        selector.wakeup();
+    }
+
+    void scheduleFlush(ChannelPlayerConnection connection) {
+        flushes.offer(connection);
+        if (Thread.currentThread() != thread) {
+            selector.wakeup();
+        }
+    }
+
+    @Override
+    public void run() {
+        while (isRunning) {
+            try {
+                selector.select();
+            } catch (IOException e) {
+                System.err.println("Selector failed: " + e.getMessage());
+                break;
+            }
+            processRegistrations();
+            processSelectedKeys();
+            processFlushes();
+        }
+        closeAll();
+    }
+
+    private void processRegistrations() {
+        ChannelPlayerConnection connection;
+        while ((connection = registrations.poll()) != null) {
+            try {
+                connection.register(selector);
+            } catch (IOException | RuntimeException e) {
+                System.err.println("Error registering client: " + e.getMessage());
+                connection.close();
+            }
+        }
+    }
+
+    private void processSelectedKeys() {
+        Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+        while (keys.hasNext()) {
+            SelectionKey key = keys.next();
+            keys.remove();
+            ChannelPlayerConnection connection = (ChannelPlayerConnection) key.attachment();
+            try {
+                if (key.isValid() && key.isReadable()) {
+                    connection.onReadable(readBuffer);
+                }
+                if (key.isValid() && key.isWritable()) {
+                    connection.onWritable();
+                }
+            } catch (IOException e) {
+                System.out.println("Client disconnected: " + e.getMessage());
+                connection.close();
+            } catch (RuntimeException e) {
+                // A bad message from one client must not stop the loop for everyone else
+                System.err.println("Error handling client, closing it: " + e);
+                connection.close();
+            }
+        }
+    }
+
+    private void processFlushes() {
+        ChannelPlayerConnection connection;
+        while ((connection = flushes.poll()) != null) {
+            try {
+                connection.flush();
+            } catch (IOException e) {
+                System.out.println("Client disconnected: " + e.getMessage());
+                connection.close();
+            } catch (RuntimeException e) {
+                // A bad message from one client must not stop the loop for everyone else
+                System.err.println("Error handling client, closing it: " + e);
+                connection.close();
+            }
+        }
+    }
+
+    private void closeAll() {
+        for (SelectionKey key : selector.keys()) {
+            Object attachment = key.attachment();
+            if (attachment instanceof ChannelPlayerConnection) {
+                ((ChannelPlayerConnection) attachment).close();
+            }
+        }
+        try {
+            selector.close();
+        } catch (IOException e) {
+            System.err.println("Error closing selector: " + e.getMessage());
+        }
+    }
+
+    public void stop() {
+        isRunning = false;
+        selector.wakeup();
+    }
+}
@@ -0,0 +1,60 @@
+package io.github.server.nio;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+
+/**
+ * Non-blocking server: the calling thread accepts connections and hands them round-robin to a
+ * fixed set of {@link NioEventLoop}s, so the thread count no longer grows with the player count.
+ */
+public class NioServer {
+    private final NioEventLoop[] loops;
+    private ServerSocketChannel serverChannel;
+    private volatile boolean isRunning = true;
+    private int nextLoop = 0;
+
+    public NioServer(int ioThreads) throws IOException {
+        loops = new NioEventLoop[ioThreads];
+        for (int i = 0; i < ioThreads; i++) {
+            loops[i] = new NioEventLoop();
+        }
+    }
+
+    public void start(int port) throws IOException {
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(port));
+        for (int i = 0; i < loops.length; i++) {
+            loops[i].start("nio-loop-" + i);
+        }
+        System.out.println("Server started on port: " + port + " (nio, " + loops.length + " loops)");
+
+        while (isRunning) {
+            try {
+                SocketChannel channel = serverChannel.accept();
+                System.out.println("Client connected: " + channel.getRemoteAddress());
+                loops[nextLoop].register(channel);
+                nextLoop = (nextLoop + 1) % loops.length;
+            } catch (IOException e) {
+                if (isRunning) {
+                    System.err.println("Error accepting client: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    public void stop() {
+        isRunning = false;
+        try {
+            if (serverChannel != null && serverChannel.isOpen()) {
+                serverChannel.close();
+            }
+        } catch (IOException e) {
+            System.err.println("Error closing server: " + e.getMessage());
+        }
+        for (NioEventLoop loop : loops) {
+            loop.stop();
+        }
+    }
+}
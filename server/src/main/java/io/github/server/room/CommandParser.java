@@ -0,0 +1,80 @@
+package io.github.server.room;
+
+import io.github.logic.utils.Messages;
+
+/**
+ * Reads "command:arg1:arg2" lines in place. Commands are compared against the prefix without
+ * splitting the line, and arguments are located by offset, so nothing is allocated unless an
+ * argument is actually turned into a String.
+ */
+final class CommandParser {
+    private static final char SEPARATOR = Messages.SEPARATOR.charAt(0);
+
+    private CommandParser() {
+    }
+
+    /** Index of the first separator, or the line length when there are no arguments. */
+    static int commandEnd(String line) {
+        int end = line.indexOf(SEPARATOR);
+        return end < 0 ? line.length() : end;
+    }
+
+    static boolean is(String line, int commandEnd, String command) {
+        return commandEnd == command.length() && line.startsWith(command);
+    }
+
+    /** Start of argument {@code n} (1 based), or -1 if the line has fewer arguments. */
+    static int argumentStart(String line, int n) {
+        int start = 0;
+        for (int i = 0; i < n; i++) {
+            int separator = line.indexOf(SEPARATOR, start);
+            if (separator < 0) {
+                return -1;
+            }
+            start = separator + 1;
+        }
+        return start;
+    }
+
+    static int argumentEnd(String line, int start) {
+        int end = line.indexOf(SEPARATOR, start);
+        return end < 0 ? line.length() : end;
+    }
+
+    /** Whether argument {@code n} equals {@code value}, compared in place. */
+    static boolean argumentIs(String line, int n, String value) {
+        int start = argumentStart(line, n);
+        return start >= 0 && argumentEnd(line, start) - start == value.length() && line.startsWith(value, start);
+    }
+
+    /** Argument {@code n} as a String, or null when it is missing or empty. */
+    static String argument(String line, int n) {
+        int start = argumentStart(line, n);
+        if (start < 0) {
+            return null;
+        }
+        int end = argumentEnd(line, start);
+        return end > start ? line.substring(start, end) : null;
+    }
+
+    /** Argument {@code n} parsed as a non-negative int without a substring, or -1 if it is not one. */
+    static int intArgument(String line, int n) {
+        int start = argumentStart(line, n);
+        if (start < 0) {
+            return -1;
+        }
+        int end = argumentEnd(line, start);
+        if (end == start || end - start > 9) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = line.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,248 @@
+package io.github.server.room;
+import com.google.gson.Gson;
+import io.github.server.OutboundMessage;
+import io.github.server.PlayerConnection;
+import io.github.server.ServerConfigs;
+import io.github.logic.data.GameStateDTO;
+import io.github.logic.net.ByteReader;
+import io.github.logic.net.GameStateCodec;
+import io.github.logic.net.Protocol;
+import io.github.logic.tetris_battle.board.Tetromino;
+import io.github.logic.tetris_battle.board.TetrominoSpawner;
+import io.github.logic.utils.Messages;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class Room {
+    private static final Gson gson = new Gson();
+
+    private String roomId;
+    private PlayerConnection owner;
+    private Map<String, PlayerConnection> pending = new HashMap<>();
+    private Map<String, PlayerConnection> approved = new HashMap<>();
+    private volatile TetrominoSpawner tetrominoSpawner;
+    private volatile RoomSimulation simulation;
+
+    // Pieces are handed out to both connection threads and to the room simulation
+    private static class SharedSpawner extends TetrominoSpawner {
+        private final ReentrantLock lock = new ReentrantLock();
+
+        SharedSpawner() {
+        }
+
+        SharedSpawner(long seed) {
+            super(seed);
+        }
+
+        @Override
+        public int typeAt(int index) {
+            lock.lock();
+            try {
+                return super.typeAt(index);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public int registerCursor() {
+            lock.lock();
+            try {
+                return super.registerCursor();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void advanceCursor(int cursor, int index) {
+            lock.lock();
+            try {
+                super.advanceCursor(cursor, index);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void unregisterCursor(int cursor) {
+            lock.lock();
+            try {
+                super.unregisterCursor(cursor);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    public Room(String roomId, PlayerConnection owner) {
+        this.roomId = roomId;
+        this.owner = owner;
+        tetrominoSpawner = new SharedSpawner();
+        owner.currentRoom = this;
+        approved.put(owner.toString(), owner);
+        System.out.println(approved);
+    }
+
+    private boolean gameStarted = false;
+
+    public void startGame() {
+        if (approved.size() == 2) {
+            gameStarted = true;
+            // Clients build the same seeded spawner and no longer ask for every piece
+            long seed = ThreadLocalRandom.current().nextLong();
+            tetrominoSpawner = new SharedSpawner(seed);
+            if (ServerConfigs.authoritative()) {
+                startSimulation();
+            }
+            broadcast(Messages.GAME_START + Messages.SEPARATOR + roomId + Messages.SEPARATOR + seed);
+        } else {
+            System.out.println(approved);
+            owner.send("cannot_start_not_enough_players");
+        }
+    }
+
+    private void startSimulation() {
+        stopSimulation();
+        PlayerConnection guest = null;
+        for (PlayerConnection p : approved.values()) {
+            if (p != owner) {
+                guest = p;
+            }
+        }
+        simulation = new RoomSimulation(roomId, owner, guest, tetrominoSpawner);
+        broadcast(Messages.AUTHORITATIVE);
+        simulation.start();
+    }
+
+    private void stopSimulation() {
+        RoomSimulation running = simulation;
+        if (running != null) {
+            running.stop();
+            simulation = null;
+        }
+    }
+
+    /** Whether the server runs this room's boards, client game states are then not relayed. */
+    public boolean isSimulated() {
+        return simulation != null;
+    }
+
+    public void submitInput(PlayerConnection player, String line) {
+        RoomSimulation running = simulation;
+        if (running != null) {
+            running.submitInput(player, line);
+        }
+    }
+
+    public PlayerConnection getOwner() {return owner;}
+    public Tetromino getPiece(int index) {
+        return tetrominoSpawner.getTetromino(index);
+    }
+    public Tetromino getNextPiece(int index) {
+        return tetrominoSpawner.peekNextTetromino(index + 1);
+    }
+    public void broadcast(String message) {
+        System.out.println("Broadcasting to room " + roomId + ": " + message);
+        fanOut(approved.values(), null, OutboundMessage.line(message));
+    }
+
+    public void broadcastExcept(PlayerConnection sender, String message) {
+        fanOut(approved.values(), sender, OutboundMessage.line(message));
+    }
+
+    // The message is encoded once by the caller and the same bytes are queued to every
+    // recipient, so the cost no longer grows with the number of players or watchers
+    private static void fanOut(Collection<PlayerConnection> recipients, PlayerConnection except, OutboundMessage message) {
+        for (PlayerConnection p : recipients) {
+            if (p != except) {
+                p.send(message);
+            }
+        }
+    }
+
+    // Binary peers get the frame as is, text-only peers get it transcoded to the JSON line
+    public void relayGameState(PlayerConnection sender, byte[] payload, int offset, int length) {
+        OutboundMessage frame = null;
+        OutboundMessage json = null;
+        for (PlayerConnection p : approved.values()) {
+            if (p.equals(sender)) {
+                continue;
+            }
+            if (p.binaryProtocol) {
+                if (frame == null) {
+                    frame = OutboundMessage.frame(Protocol.FRAME_GAME_STATE, payload, offset, length);
+                }
+                p.send(frame);
+            } else {
+                if (json == null) {
+                    GameStateDTO state = GameStateCodec.decode(new ByteReader().wrap(payload, offset, length));
+                    json = OutboundMessage.line(Messages.GAME_STATE + Messages.SEPARATOR + gson.toJson(state));
+                }
+                p.send(json);
+            }
+        }
+    }
+
+    public String getRoomId() {
+        return roomId;
+    }
+
+    public boolean canAcceptPlayer() {
+        return approved.size() < 2;
+    }
+
+    public void requestJoin(PlayerConnection player) {
+        if (!canAcceptPlayer()) {
+            player.send("room_full");
+            return;
+        }
+        pending.put(player.toString(), player);
+        player.currentRoom = this;
+        player.send(Messages.JOIN_REQUEST + Messages.SEPARATOR + roomId);
+        owner.send(Messages.JOIN_REQUEST + Messages.SEPARATOR + player.name + Messages.SEPARATOR + player);
+    }
+
+    public void approvePlayer(String playerKey) {
+        if (!canAcceptPlayer()) {
+            owner.send("cannot_approve_room_full");
+            return;
+        }
+
+        PlayerConnection player = pending.remove(playerKey);
+        if (player != null) {
+            approved.put(playerKey, player);
+            player.isApproved = true;
+            player.send(Messages.APPROVED + Messages.SEPARATOR + roomId + Messages.SEPARATOR + owner.name);
+
+            for (PlayerConnection rejectedPlayer : pending.values()) {
+                rejectedPlayer.send(Messages.REJECTED + Messages.SEPARATOR + roomId);
+                rejectedPlayer.currentRoom = null;
+            }
+            pending.clear();
+        }
+    }
+
+    public void removePlayer(PlayerConnection player) {
+        stopSimulation();
+        pending.remove(player.toString());
+        approved.remove(player.toString());
+        broadcastExcept(player, Messages.PLAYER_LEFT + Messages.SEPARATOR + player.name +
+            Messages.SEPARATOR + player);
+        if (player == owner) {
+            // If owner leaves, close room and notify others
+            for (PlayerConnection p : approved.values()) {
+                p.send(Messages.ROOM_CLOSED);
+                p.currentRoom = null;
+            }
+            for (PlayerConnection p : pending.values()) {
+                p.send(Messages.ROOM_CLOSED);
+                p.currentRoom = null;
+            }
+            RoomManager.getInstance().removeRoom(roomId);
+        }
+        player.currentRoom = null;
+    }
+}
@@ -0,0 +1,164 @@
+package io.github.server.room;
+
+import com.google.gson.Gson;
+import io.github.server.PlayerConnection;
+import io.github.logic.data.TetrominoDTO;
+import io.github.logic.net.Protocol;
+import io.github.logic.utils.Messages;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class RoomManager {
+    private static RoomManager instance = new RoomManager();
+    private Map<String, Room> rooms = new ConcurrentHashMap<>();
+    private static final Gson gson = new Gson(); // thread-safe, shared by every connection thread
+    // Not synchronized: a monitor would pin virtual threads to their carrier
+    private final ReentrantLock createLock = new ReentrantLock();
+
+    public static RoomManager getInstance() {
+        return instance;
+    }
+
+    public Map<String, Room> getEmptyRooms() {
+        Map<String, Room> emptyRooms = new HashMap<>();
+        for (Map.Entry<String, Room> entry : rooms.entrySet()) {
+            Room room = entry.getValue();
+            if (room.canAcceptPlayer()) {
+                emptyRooms.put(entry.getKey(), room);
+            }
+        }
+        return emptyRooms;
+    }
+
+    public Room createRoom(PlayerConnection owner) {
+        createLock.lock();
+        try {
+            String roomId = UUID.randomUUID().toString().substring(0, 6);
+            Room room = new Room(roomId, owner);
+            rooms.put(roomId, room);
+            return room;
+        } finally {
+            createLock.unlock();
+        }
+    }
+
+    public Room getRoom(String roomId) {
+        return rooms.get(roomId);
+    }
+
+    public void removeRoom(String roomId) {
+        rooms.remove(roomId);
+    }
+
+    public void handleFrame(PlayerConnection player, int type, byte[] payload, int offset, int length) {
+        Room room = player.currentRoom;
+        if (room == null) {
+            return;
+        }
+        if (type == Protocol.FRAME_GAME_STATE && !room.isSimulated()) {
+            room.relayGameState(player, payload, offset, length);
+        }
+    }
+
+    public void handleInput(PlayerConnection player, String input) {
+        int end = CommandParser.commandEnd(input);
+
+        // Game states are by far the most frequent line, relay them before looking at anything else
+        if (CommandParser.is(input, end, Messages.GAME_STATE)) {
+            Room room = player.currentRoom;
+            if (room != null && !room.isSimulated()) {
+                room.broadcastExcept(player, input);
+            }
+            return;
+        }
+        if (CommandParser.is(input, end, Messages.INPUT)) {
+            Room room = player.currentRoom;
+            if (room != null) {
+                room.submitInput(player, input);
+            }
+            return;
+        }
+
+        System.out.println("Processing message: " + input);
+        Room room;
+        String name;
+
+        if (CommandParser.is(input, end, Messages.CREATE)) {
+            if ((name = CommandParser.argument(input, 1)) == null) return;
+            room = createRoom(player);
+            player.name = name;
+            player.send(Messages.ROOM_CREATED + Messages.SEPARATOR + room.getRoomId());
+
+        } else if (CommandParser.is(input, end, Messages.AUTO)) {
+            if ((name = CommandParser.argument(input, 1)) == null) return;
+            player.name = name;
+            Matchmaker.getInstance().autoJoin(player);
+
+        } else if (CommandParser.is(input, end, Messages.JOIN)) {
+            String roomId = CommandParser.argument(input, 1);
+            if (roomId == null || (name = CommandParser.argument(input, 2)) == null) return;
+            room = rooms.get(roomId);
+            player.name = name;
+            if (room != null) {
+                room.requestJoin(player);
+            } else {
+                player.send(Messages.ROOM_NOT_FOUND);
+            }
+
+        } else if (CommandParser.is(input, end, Messages.ACCEPT)) {
+            room = player.currentRoom;
+            String playerId = CommandParser.argument(input, 1);
+            if (room != null && playerId != null) {
+                room.approvePlayer(playerId);
+            }
+
+        } else if (CommandParser.is(input, end, Messages.LEAVE)) {
+            if (player.currentRoom != null) {
+                player.currentRoom.removePlayer(player);
+            }
+
+        } else if (CommandParser.is(input, end, Messages.REQUEST_PIECE)) {
+            int index = CommandParser.intArgument(input, 1);
+            room = player.currentRoom;
+
+            if (room != null && index >= 0) {
+                TetrominoDTO dto = room.getPiece(index).toDTO();
+                player.send(Messages.PIECE + Messages.SEPARATOR + gson.toJson(dto));
+
+                dto = room.getNextPiece(index).toDTO();
+                player.send(Messages.NEXT_PIECE + Messages.SEPARATOR + gson.toJson(dto));
+            }
+
+        } else if (CommandParser.is(input, end, Messages.START)) {
+            Room startRoom = player.currentRoom;
+            if (startRoom != null && startRoom.getOwner() == player) {
+                startRoom.startGame();
+                System.out.println("Starting game");
+            } else {
+                player.send(Messages.NOT_OWNER_OR_INVALID_ROOM);
+            }
+
+        } else {
+            relay(player, input);
+        }
+    }
+
+    // Anything the server does not handle itself goes to the other players untouched, except
+    // skills in simulated rooms: the server does not run them, so it does not pass them on
+    private void relay(PlayerConnection player, String input) {
+        Room room = player.currentRoom;
+        if (room == null) {
+            return;
+        }
+        if (room.isSimulated()) {
+            int end = CommandParser.commandEnd(input);
+            if (CommandParser.is(input, end, Messages.LOCK_PLAYER) || CommandParser.is(input, end, Messages.UNLOCK_PLAYER)) {
+                return;
+            }
+        }
+        room.broadcastExcept(player, input);
+    }
+
+}
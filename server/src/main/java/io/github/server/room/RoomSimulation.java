@@ -0,0 +1,229 @@
+package io.github.server.room;
+
+import com.google.gson.Gson;
+import io.github.logic.data.GameStateDTO;
+import io.github.logic.data.PlayerState;
+import io.github.logic.net.ByteWriter;
+import io.github.logic.net.GameStateCodec;
+import io.github.logic.net.Protocol;
+import io.github.logic.tetris_battle.board.Board;
+import io.github.logic.tetris_battle.board.Tetromino;
+import io.github.logic.tetris_battle.board.TetrominoSpawner;
+import io.github.logic.tetris_battle.score.HealthBar;
+import io.github.logic.utils.Messages;
+import io.github.logic.utils.Side;
+import io.github.server.OutboundMessage;
+import io.github.server.PlayerConnection;
+import io.github.server.ServerConfigs;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Server-side copy of both boards in a room, run on the shared {@link RoomTicker}.
+ *
+ * Gravity and spawns follow the server's own tick; clients only send the moves and rotations
+ * their player made (input:&lt;action&gt;:&lt;seq&gt;). Inputs are queued by the connection threads and
+ * applied on the tick. After a tick each player gets the authoritative state of both boards,
+ * their own one carrying the sequence number of their last applied input. Skills are not
+ * simulated, so authoritative rooms play without them.
+ */
+class RoomSimulation implements Runnable {
+    private static final Gson gson = new Gson();
+    private static final float TICK_SECONDS = ServerConfigs.SIMULATION_TICK_MILLIS / 1000f;
+
+    private static final int LEFT = 0;
+    private static final int RIGHT = 1;
+    private static final int ROTATE = 2;
+    private static final int DROP = 3;
+
+    private static class Input {
+        final PlayerConnection player;
+        final int action;
+        final int seq;
+
+        Input(PlayerConnection player, int action, int seq) {
+            this.player = player;
+            this.action = action;
+            this.seq = seq;
+        }
+    }
+
+    // What one recipient was last sent for one board; the grid is compared through its version
+    private static class SentState {
+        private int version = -1;
+        private int index = -1;
+        private boolean full;
+        private int type = -1;
+        private int rotation;
+        private int row;
+        private int col;
+        private float health = Float.NaN;
+        private int inputSeq = -1;
+
+        /** Records the board as sent and returns whether it differs from the last one. */
+        boolean update(Board board, float health, int inputSeq) {
+            Tetromino piece = board.getCurrentRunningPiece();
+            int version = board.getCells().getVersion();
+            int type = piece != null ? piece.getType() : -1;
+            int rotation = piece != null ? piece.getRotationState() : 0;
+            int row = piece != null ? piece.getRow() : 0;
+            int col = piece != null ? piece.getCol() : 0;
+            if (version == this.version && board.getCurrentIndex() == index && board.isFull() == full
+                && type == this.type && rotation == this.rotation && row == this.row && col == this.col
+                && health == this.health && inputSeq == this.inputSeq) {
+                return false;
+            }
+            this.version = version;
+            this.index = board.getCurrentIndex();
+            this.full = board.isFull();
+            this.type = type;
+            this.rotation = rotation;
+            this.row = row;
+            this.col = col;
+            this.health = health;
+            this.inputSeq = inputSeq;
+            return true;
+        }
+    }
+
+    private final String roomId;
+    private final PlayerConnection owner;
+    private final PlayerConnection guest;
+    private final HealthBar healthBar = new HealthBar();
+    private final Board ownerBoard;
+    private final Board guestBoard;
+    private final Queue<Input> inputs = new ConcurrentLinkedQueue<>();
+
+    // Owned by the tick
+    private final ByteWriter payloadWriter = new ByteWriter(256);
+    private final SentState ownerBoardToOwner = new SentState();
+    private final SentState ownerBoardToGuest = new SentState();
+    private final SentState guestBoardToGuest = new SentState();
+    private final SentState guestBoardToOwner = new SentState();
+    private int ownerInputSeq = 0;
+    private int guestInputSeq = 0;
+    private int ack = 0;
+    private ScheduledFuture<?> task;
+
+    RoomSimulation(String roomId, PlayerConnection owner, PlayerConnection guest, TetrominoSpawner spawner) {
+        this.roomId = roomId;
+        this.owner = owner;
+        this.guest = guest;
+        int rows = ServerConfigs.SIMULATION_ROWS;
+        int cols = ServerConfigs.SIMULATION_COLS;
+        ownerBoard = new Board(rows, cols, Side.LEFT, spawner, healthBar, roomId);
+        guestBoard = new Board(rows, cols, Side.RIGHT, spawner, healthBar, roomId);
+    }
+
+    void start() {
+        task = RoomTicker.getInstance().schedule(this);
+    }
+
+    void stop() {
+        if (task != null) {
+            task.cancel(false);
+        }
+        ownerBoard.releaseSpawner();
+        guestBoard.releaseSpawner();
+    }
+
+    /** Queues an input:&lt;action&gt;:&lt;seq&gt; line, unknown actions and missing sequence numbers are ignored. */
+    void submitInput(PlayerConnection player, String line) {
+        int action;
+        if (CommandParser.argumentIs(line, 1, Messages.INPUT_LEFT)) action = LEFT;
+        else if (CommandParser.argumentIs(line, 1, Messages.INPUT_RIGHT)) action = RIGHT;
+        else if (CommandParser.argumentIs(line, 1, Messages.INPUT_ROTATE)) action = ROTATE;
+        else if (CommandParser.argumentIs(line, 1, Messages.INPUT_DROP)) action = DROP;
+        else return;
+        int seq = CommandParser.intArgument(line, 2);
+        if (seq < 0) {
+            return;
+        }
+        inputs.offer(new Input(player, action, seq));
+    }
+
+    @Override
+    public void run() {
+        Input input;
+        while ((input = inputs.poll()) != null) {
+            apply(input);
+        }
+        ownerBoard.update(TICK_SECONDS);
+        guestBoard.update(TICK_SECONDS);
+
+        float pivot = healthBar.getPivot();
+        if (ownerBoardToOwner.update(ownerBoard, pivot, ownerInputSeq)) {
+            sendState(owner, ownerBoard, pivot, true, ownerInputSeq);
+        }
+        if (ownerBoardToGuest.update(ownerBoard, 100 - pivot, 0)) {
+            sendState(guest, ownerBoard, 100 - pivot, false, 0);
+        }
+        if (guestBoardToGuest.update(guestBoard, 100 - pivot, guestInputSeq)) {
+            sendState(guest, guestBoard, 100 - pivot, true, guestInputSeq);
+        }
+        if (guestBoardToOwner.update(guestBoard, pivot, 0)) {
+            sendState(owner, guestBoard, pivot, false, 0);
+        }
+
+        if (ownerBoard.isFull() || guestBoard.isFull() || healthBar.isEndGame()) {
+            stop();
+        }
+    }
+
+    private void apply(Input input) {
+        Board board;
+        if (input.player == owner) {
+            board = ownerBoard;
+            ownerInputSeq = Math.max(ownerInputSeq, input.seq);
+        } else {
+            board = guestBoard;
+            guestInputSeq = Math.max(guestInputSeq, input.seq);
+        }
+        switch (input.action) {
+        case LEFT:
+            board.movePiece(-1);
+            break;
+        case RIGHT:
+            board.movePiece(1);
+            break;
+        case ROTATE:
+            board.rotatePiece();
+            break;
+        case DROP:
+            board.dropPiece();
+            break;
+        }
+    }
+
+    private void sendState(PlayerConnection recipient, Board board, float health, boolean ownBoard, int inputSeq) {
+        GameStateDTO state = new GameStateDTO();
+        state.roomId = roomId;
+        state.ack = ++ack;
+        state.lastReceivedAck = inputSeq;
+        state.baseAck = 0; // always a keyframe, the client keeps no history of server states
+        state.ownBoard = ownBoard;
+
+        PlayerState player = new PlayerState();
+        state.player = player;
+        player.grid = board.getGrid();
+        player.changedRows = (1 << player.grid.length) - 1;
+        Tetromino current = board.getCurrentRunningPiece();
+        Tetromino next = board.getNextTetromino();
+        player.currentPiece = current != null ? current.toDTO() : null;
+        player.nextPiece = next != null ? next.toDTO() : null;
+        player.changedPieces = PlayerState.CURRENT_PIECE | PlayerState.NEXT_PIECE;
+        player.pieceIndex = board.getCurrentIndex();
+        player.health = health;
+        player.boardFull = board.isFull();
+
+        if (recipient.binaryProtocol) {
+            payloadWriter.reset();
+            GameStateCodec.encode(state, payloadWriter);
+            recipient.send(OutboundMessage.frame(Protocol.FRAME_GAME_STATE, payloadWriter.array(), 0, payloadWriter.size()));
+        } else {
+            recipient.send(Messages.GAME_STATE + Messages.SEPARATOR + gson.toJson(state));
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package io.github.server.room;
+
+import io.github.server.ServerConfigs;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One small scheduler pool shared by every simulated room, so thousands of rooms cost a
+ * scheduled task each instead of a thread each.
+ */
+public class RoomTicker {
+    private static final RoomTicker instance = new RoomTicker();
+
+    private final ScheduledExecutorService scheduler;
+
+    private RoomTicker() {
+        AtomicInteger count = new AtomicInteger();
+        scheduler = Executors.newScheduledThreadPool(ServerConfigs.simulationThreads(), task -> {
+            Thread thread = new Thread(task, "room-tick-" + count.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static RoomTicker getInstance() {
+        return instance;
+    }
+
+    /** Runs {@code tick} every tick period until the returned future is cancelled. */
+    public ScheduledFuture<?> schedule(Runnable tick) {
+        long period = ServerConfigs.SIMULATION_TICK_MILLIS;
+        return scheduler.scheduleAtFixedRate(() -> {
+            try {
+                tick.run();
+            } catch (RuntimeException e) {
+                // An exception would silently cancel the task, log it and keep ticking
+                System.err.println("Room tick failed: " + e);
+                e.printStackTrace();
+            }
+        }, period, period, TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,14 @@
+package io.github.server;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Java 21 version of the connection executors, picked up from META-INF/versions/21 of the
+ * server jar. Each PlayerConnection gets its own virtual thread.
+ */
+public class ConnectionExecutors {
+    public static ExecutorService newVirtualThreadPerTaskExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("player-", 0).factory());
+    }
+}